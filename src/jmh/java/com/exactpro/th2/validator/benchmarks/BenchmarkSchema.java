@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.benchmarks;
+
+import com.exactpro.th2.infrarepo.ResourceType;
+import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.exactpro.th2.infrarepo.settings.RepositorySettingsResource;
+import com.exactpro.th2.validator.SchemaValidatorConfig;
+import com.exactpro.th2.validator.books.OfflineBookCatalog;
+import com.exactpro.th2.validator.secrets.OfflineSecretsSource;
+import com.exactpro.th2.validator.util.ResourceView;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.exactpro.th2.validator.util.MapperUtils.MAPPER;
+
+/**
+ * Generated schema of {@link #boxes} boxes. Every box has {@link #pins} pins of each kind,
+ * every subscriber and grpc client is linked to {@link #links} pins of the following boxes.
+ * {@link #invalidLinks} of the links point to pins which don't exist.
+ * Validation only replaces pin lists with equal ones, so the schema is generated once per trial.
+ * Benchmarks which modify the boxes take a fresh copy from {@link #generateBoxes()}.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkSchema {
+
+    static final String SCHEMA = "schema";
+
+    static final String NAMESPACE_PREFIX = "th2-";
+
+    static final String STORAGE_SERVICE_URL = "http://localhost:1";
+
+    private static final String KEYSPACE = "schema_keyspace";
+
+    private static final String BOOK = "demo_book";
+
+    private static final String DICTIONARY = "dictionary";
+
+    private static final String SERVICE_CLASS = "com.exactpro.th2.benchmark.grpc.BenchmarkService";
+
+    @Param({"100", "1000"})
+    public int boxes;
+
+    @Param({"2", "8"})
+    public int pins;
+
+    @Param({"1", "4"})
+    public int links;
+
+    /**
+     * ratio of the links to missing pins
+     */
+    @Param({"0", "0.1"})
+    public double invalidLinks;
+
+    Map<String, Map<String, RepositoryResource>> repositoryMap;
+
+    ResourceView boxesMap;
+
+    RepositorySettingsResource settings;
+
+    SchemaValidatorConfig config;
+
+    @Setup
+    public void generate() {
+        repositoryMap = new HashMap<>();
+        repositoryMap.put(ResourceType.Th2Box.kind(), generateBoxes());
+        repositoryMap.put(ResourceType.Th2Dictionary.kind(), Map.of(DICTIONARY, resource(
+                ResourceType.Th2Dictionary.kind(), DICTIONARY, Map.of("data", "dictionary content"))));
+        boxesMap = ResourceView.boxes(repositoryMap);
+
+        settings = MAPPER.convertValue(Map.of(
+                "metadata", Map.of("name", "book-config"),
+                "spec", Map.of(
+                        "cradle", Map.of("keyspace", KEYSPACE),
+                        "bookConfig", Map.of("defaultBook", BOOK)
+                )
+        ), RepositorySettingsResource.class);
+        config = configBuilder().build();
+    }
+
+    /**
+     * @return new boxes of the schema, equal to the ones generated for the trial
+     */
+    Map<String, RepositoryResource> generateBoxes() {
+        Map<String, RepositoryResource> boxResources = new HashMap<>();
+        for (int box = 0; box < boxes; box++) {
+            boxResources.put(boxName(box), resource(ResourceType.Th2Box.kind(), boxName(box), boxSpec(box)));
+        }
+        return boxResources;
+    }
+
+    /**
+     * @return config with offline secrets and books, so benchmarks don't depend on Kubernetes and the storage service
+     */
+    SchemaValidatorConfig.Builder configBuilder() {
+        return new SchemaValidatorConfig.Builder()
+                .setSecretsSource(new OfflineSecretsSource(Map.of(NAMESPACE_PREFIX + SCHEMA, Set.of("user", "cert"))))
+                .setBookCatalog(new OfflineBookCatalog(Map.of(KEYSPACE, Set.of(BOOK))));
+    }
+
+    private Map<String, Object> boxSpec(int box) {
+        List<Map<String, Object>> publishers = new ArrayList<>();
+        List<Map<String, Object>> subscribers = new ArrayList<>();
+        List<Map<String, Object>> clients = new ArrayList<>();
+        for (int pin = 0; pin < pins; pin++) {
+            publishers.add(Map.of(
+                    "name", "publisher-" + pin,
+                    "attributes", List.of("publish", "parsed")
+            ));
+            subscribers.add(Map.of(
+                    "name", "subscriber-" + pin,
+                    "attributes", List.of("subscribe", "parsed"),
+                    "linkTo", linkTo(box, pin, "publisher-" + pin)
+            ));
+            clients.add(Map.of(
+                    "name", "client-" + pin,
+                    "serviceClass", SERVICE_CLASS,
+                    "linkTo", linkTo(box, pin, "server")
+            ));
+        }
+        List<Map<String, Object>> servers = List.of(Map.of(
+                "name", "server",
+                "serviceClasses", List.of(SERVICE_CLASS)
+        ));
+
+        Map<String, Object> spec = new HashMap<>();
+        spec.put("pins", new HashMap<>(Map.of(
+                "mq", new HashMap<>(Map.of("publishers", publishers, "subscribers", subscribers)),
+                "grpc", new HashMap<>(Map.of("client", clients, "server", servers))
+        )));
+        spec.put("extendedSettings", Map.of("service", Map.of(
+                "enabled", true,
+                "clusterIP", List.of(Map.of(
+                        "name", "http",
+                        "containerPort", 8080,
+                        "urlPath", "/" + boxName(box) + "/api"
+                ))
+        )));
+        spec.put("customConfig", Map.of(
+                "dictionary", "${dictionary_link:" + DICTIONARY + "}",
+                "connection", Map.of(
+                        "user", "${secret_value:user}",
+                        "certificates", List.of("${secret_path:cert}")
+                )
+        ));
+        spec.put("bookName", BOOK);
+        return spec;
+    }
+
+    private List<Map<String, Object>> linkTo(int box, int pin, String pinName) {
+        List<Map<String, Object>> linkTo = new ArrayList<>();
+        for (int link = 1; link <= links; link++) {
+            // invalid links are spread evenly over the schema
+            long index = ((long) box * pins + pin) * links + link;
+            boolean invalid = (long) (index * invalidLinks) > (long) ((index - 1) * invalidLinks);
+            linkTo.add(Map.of("box", boxName((box + link) % boxes), "pin", invalid ? "missing-" + pinName : pinName));
+        }
+        return linkTo;
+    }
+
+    private static String boxName(int box) {
+        return "box-" + box;
+    }
+
+    private static RepositoryResource resource(String kind, String name, Map<String, Object> spec) {
+        return MAPPER.convertValue(Map.of(
+                "apiVersion", "th2.exactpro.com/v2",
+                "kind", kind,
+                "metadata", Map.of("name", name),
+                "spec", spec
+        ), RepositoryResource.class);
+    }
+}
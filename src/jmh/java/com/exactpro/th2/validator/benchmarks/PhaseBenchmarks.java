@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.benchmarks;
+
+import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.exactpro.th2.validator.BookNamesValidator;
+import com.exactpro.th2.validator.SchemaIndex;
+import com.exactpro.th2.validator.SchemaValidationContext;
+import com.exactpro.th2.validator.SchemaValidator;
+import com.exactpro.th2.validator.boxes.BoxesValidator;
+import com.exactpro.th2.validator.links.LinksValidator;
+import com.exactpro.th2.validator.util.CustomConfigReferences;
+import com.exactpro.th2.validator.util.SourceHashUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static com.exactpro.th2.validator.benchmarks.BenchmarkSchema.NAMESPACE_PREFIX;
+import static com.exactpro.th2.validator.benchmarks.BenchmarkSchema.SCHEMA;
+import static com.exactpro.th2.validator.benchmarks.BenchmarkSchema.STORAGE_SERVICE_URL;
+
+/**
+ * Phases of {@link com.exactpro.th2.validator.SchemaValidator#validate}, each one measured separately.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PhaseBenchmarks {
+
+    @Benchmark
+    public SchemaValidationContext urlPaths(BenchmarkSchema schema) {
+        var context = new SchemaValidationContext();
+        new BoxesValidator(context, schema.boxesMap).detectUrlPathsConflicts();
+        return context;
+    }
+
+    @Benchmark
+    public SchemaValidationContext secrets(BenchmarkSchema schema) {
+        var context = new SchemaValidationContext();
+        new BoxesValidator(context, schema.boxesMap)
+                .validateSecrets(NAMESPACE_PREFIX + SCHEMA, schema.config.getSecretsSource());
+        return context;
+    }
+
+    @Benchmark
+    public SchemaValidationContext links(BenchmarkSchema schema) {
+        var context = new SchemaValidationContext();
+        var linksValidator = new LinksValidator(context, schema.repositoryMap, schema.boxesMap, schema.config);
+        linksValidator.removeDuplicatePins();
+        linksValidator.validateLinks(SCHEMA);
+        return context;
+    }
+
+    /**
+     * removes links to missing pins from a fresh copy of the boxes, links are validated once per trial
+     */
+    @Benchmark
+    public Collection<RepositoryResource> removeInvalidLinks(InvalidLinks invalidLinks)
+            throws JsonProcessingException {
+        SchemaValidator.removeInvalidLinks(invalidLinks.context, invalidLinks.boxes);
+        return invalidLinks.boxes;
+    }
+
+    @State(Scope.Thread)
+    public static class InvalidLinks {
+
+        SchemaValidationContext context;
+
+        Collection<RepositoryResource> boxes;
+
+        @Setup(Level.Trial)
+        public void validateLinks(BenchmarkSchema schema) {
+            context = new SchemaValidationContext();
+            new LinksValidator(context, schema.repositoryMap, schema.boxesMap, schema.config).validateLinks(SCHEMA);
+        }
+
+        @Setup(Level.Invocation)
+        public void copyBoxes(BenchmarkSchema schema) {
+            boxes = schema.generateBoxes().values();
+        }
+    }
+
+    @Benchmark
+    public SchemaValidationContext books(BenchmarkSchema schema) {
+        var context = new SchemaValidationContext();
+        new BookNamesValidator(schema.settings, STORAGE_SERVICE_URL, context, schema.boxesMap, schema.config)
+                .validate();
+        return context;
+    }
+
+    /**
+     * specs are converted on demand, so every spec is requested
+     */
+    @Benchmark
+    public void schemaIndex(BenchmarkSchema schema, Blackhole blackhole) {
+        SchemaIndex schemaIndex = SchemaIndex.build(schema.boxesMap);
+        for (String boxName : schema.boxesMap.keySet()) {
+            blackhole.consume(schemaIndex.getSpec(boxName));
+        }
+    }
+
+    @Benchmark
+    public void customConfigReferences(BenchmarkSchema schema, Blackhole blackhole) {
+        blackhole.consume(CustomConfigReferences.index(schema.boxesMap));
+    }
+
+    @Benchmark
+    public void sourceHash(BenchmarkSchema schema, Blackhole blackhole) throws JsonProcessingException {
+        for (RepositoryResource box : schema.boxesMap.values()) {
+            blackhole.consume(SourceHashUtil.digestJson(box.getSpec()));
+        }
+    }
+}
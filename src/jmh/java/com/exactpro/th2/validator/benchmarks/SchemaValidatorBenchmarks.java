@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.benchmarks;
+
+import com.exactpro.th2.validator.SchemaValidationContext;
+import com.exactpro.th2.validator.SchemaValidator;
+import com.exactpro.th2.validator.SchemaValidatorConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.exactpro.th2.validator.benchmarks.BenchmarkSchema.NAMESPACE_PREFIX;
+import static com.exactpro.th2.validator.benchmarks.BenchmarkSchema.SCHEMA;
+import static com.exactpro.th2.validator.benchmarks.BenchmarkSchema.STORAGE_SERVICE_URL;
+
+/**
+ * End-to-end {@link SchemaValidator#validate}, with phases and links validated sequentially and concurrently.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaValidatorBenchmarks {
+
+    private ExecutorService phaseExecutor;
+
+    private ExecutorService linkValidationExecutor;
+
+    private SchemaValidatorConfig concurrentConfig;
+
+    @Setup
+    public void setUp(BenchmarkSchema schema) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        phaseExecutor = Executors.newCachedThreadPool();
+        linkValidationExecutor = Executors.newFixedThreadPool(threads);
+        concurrentConfig = schema.configBuilder()
+                .setPhaseExecutor(phaseExecutor)
+                .setLinkValidationExecutor(linkValidationExecutor)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        phaseExecutor.shutdown();
+        linkValidationExecutor.shutdown();
+    }
+
+    @Benchmark
+    public SchemaValidationContext sequential(BenchmarkSchema schema) {
+        return SchemaValidator.validate(SCHEMA, NAMESPACE_PREFIX, STORAGE_SERVICE_URL,
+                schema.settings, schema.repositoryMap, schema.config);
+    }
+
+    @Benchmark
+    public SchemaValidationContext concurrent(BenchmarkSchema schema) {
+        return SchemaValidator.validate(SCHEMA, NAMESPACE_PREFIX, STORAGE_SERVICE_URL,
+                schema.settings, schema.repositoryMap, concurrentConfig);
+    }
+}
@@ -18,14 +18,18 @@ package com.exactpro.th2.validator;
 
 import com.exactpro.th2.infrarepo.repo.RepositoryResource;
 import com.exactpro.th2.infrarepo.settings.RepositorySettingsResource;
+import com.exactpro.th2.validator.books.BookCatalog;
+import com.exactpro.th2.validator.books.BookCheckMode;
+import com.exactpro.th2.validator.books.StorageServiceClient;
+import com.exactpro.th2.validator.books.StorageServiceUnavailableException;
 import com.exactpro.th2.validator.errormessages.BoxResourceErrorMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class BookNamesValidator {
 
@@ -39,16 +43,41 @@ public class BookNamesValidator {
 
     private final RepositorySettingsResource settings;
 
-    private final String storageServiceBaseUrl;
+    private final BookCatalog bookCatalog;
+
+    private final BookCheckMode bookCheckMode;
 
     public BookNamesValidator(RepositorySettingsResource settings,
                               String storageServiceBaseUrl,
                               SchemaValidationContext validationContext,
                               Map<String, RepositoryResource> boxesMap) {
+        this(settings, storageServiceBaseUrl, validationContext, boxesMap, SchemaValidatorConfig.DEFAULT);
+    }
+
+    public BookNamesValidator(RepositorySettingsResource settings,
+                              String storageServiceBaseUrl,
+                              SchemaValidationContext validationContext,
+                              Map<String, RepositoryResource> boxesMap,
+                              SchemaValidatorConfig config) {
+        this(settings,
+                config.getBookCatalog() != null
+                        ? config.getBookCatalog()
+                        : new StorageServiceClient(storageServiceBaseUrl, config.getStorageServiceSettings(),
+                                config.getBookLookupCache()),
+                config.getBookCheckMode(),
+                validationContext, boxesMap);
+    }
+
+    public BookNamesValidator(RepositorySettingsResource settings,
+                              BookCatalog bookCatalog,
+                              BookCheckMode bookCheckMode,
+                              SchemaValidationContext validationContext,
+                              Map<String, RepositoryResource> boxesMap) {
         this.settings = settings;
         this.validationContext = validationContext;
         this.boxesMap = Collections.unmodifiableMap(boxesMap);
-        this.storageServiceBaseUrl = storageServiceBaseUrl;
+        this.bookCatalog = bookCatalog;
+        this.bookCheckMode = bookCheckMode;
     }
 
     public void validate() {
@@ -56,6 +85,10 @@ public class BookNamesValidator {
             logger.warn("Custom configuration for Cassandra detected. Keyspace and bookName check will be ignored");
             return;
         }
+        if (bookCatalog.isUnavailable()) {
+            skipUnavailable("storage service is unavailable");
+            return;
+        }
         String keyspace = settings.getSpec().getCradle().getKeyspace();
         try {
             if (!keyspaceExists(keyspace)) {
@@ -65,11 +98,19 @@ public class BookNamesValidator {
                 return;
             }
             checkBooks();
+        } catch (StorageServiceUnavailableException e) {
+            skipUnavailable(e.getMessage());
         } catch (Exception e) {
-            validationContext.addExceptionMessage(e.getMessage());
+            // exceptions of the http client, e.g. refused connection, may have no message
+            validationContext.addExceptionMessage(e);
         }
     }
 
+    private void skipUnavailable(String reason) {
+        logger.warn("Books validation is skipped: {}", reason);
+        validationContext.addWarningMessage(String.format("Keyspace and books weren't checked: %s", reason));
+    }
+
     private boolean checkCustomCassandra() {
         var cradle = settings.getSpec().getCradle();
         return cradle.isUseCustomPassword()
@@ -81,10 +122,21 @@ public class BookNamesValidator {
 
     private void checkBooks() throws IOException {
         String keyspace = settings.getSpec().getCradle().getKeyspace();
-        for (var entry : mapResourcesAndBooks().entrySet()) {
+        Map<String, String> resourceToBook = mapResourcesAndBooks();
+        if (resourceToBook.isEmpty() || validationContext.isAborted()) {
+            return;
+        }
+        Set<String> existingBooks = bookCheckMode == BookCheckMode.CATALOG
+                ? await(bookCatalog.getBooks(keyspace))
+                : findExistingBooks(keyspace, new HashSet<>(resourceToBook.values()));
+
+        for (var entry : resourceToBook.entrySet()) {
+            if (validationContext.isAborted()) {
+                return;
+            }
             String resource = entry.getKey();
             String book = entry.getValue();
-            if (!bookExists(keyspace, book)) {
+            if (!existingBooks.contains(book)) {
                 validationContext.addBookErrorMessages(new BoxResourceErrorMessage(
                         resource,
                         String.format("Specified book \"%s\" is not present in database", book)
@@ -93,18 +145,42 @@ public class BookNamesValidator {
         }
     }
 
+    /**
+     * checks every distinct book once, all checks are run concurrently
+     */
+    private Set<String> findExistingBooks(String keyspace, Set<String> books) throws IOException {
+        Map<String, CompletableFuture<Boolean>> bookChecks = new HashMap<>();
+        for (String book : books) {
+            bookChecks.put(book, bookCatalog.bookExists(keyspace, book));
+        }
+        await(CompletableFuture.allOf(bookChecks.values().toArray(new CompletableFuture[0])));
+
+        Set<String> existingBooks = new HashSet<>();
+        bookChecks.forEach((book, exists) -> {
+            if (exists.join()) {
+                existingBooks.add(book);
+            }
+        });
+        return existingBooks;
+    }
+
     private boolean keyspaceExists(String keyspace) throws IOException {
-        String urlStr = String.format(" http://%s/api/%s", storageServiceBaseUrl, keyspace);
-        URL url = new URL(urlStr);
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+        return await(bookCatalog.keyspaceExists(keyspace));
     }
 
-    private boolean bookExists(String keyspace, String bookName) throws IOException {
-        String urlStr = String.format(" http://%s/api/%s/books/%s", storageServiceBaseUrl, keyspace, bookName);
-        URL url = new URL(urlStr);
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
     }
 
     private Map<String, String> mapResourcesAndBooks() {
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator;
+
+import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.exactpro.th2.infrarepo.settings.RepositorySettingsResource;
+import com.exactpro.th2.validator.boxes.BoxesValidator;
+import com.exactpro.th2.validator.links.LinksValidator;
+import com.exactpro.th2.validator.util.ResourceView;
+import com.exactpro.th2.validator.util.UrlPathTrie;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs checks only for the resources affected by a change set and takes results
+ * of all other resources from the previous validation.
+ * <p>
+ * A resource is affected if it was changed itself, if it depends on a changed resource
+ * (links to a changed box or references a changed dictionary)
+ * or if it shares the same or nested url paths with an affected resource, directly or through other resources.
+ * <p>
+ * Specs are read only for the changed boxes (url paths), the affected boxes (pins, links, secrets, books)
+ * and the other ends of their links. Url paths of the other boxes are taken from the previous validation,
+ * so conflicts of url paths are detected for the whole schema without reading every spec.
+ */
+final class IncrementalSchemaValidator {
+
+    private IncrementalSchemaValidator() {
+    }
+
+    static SchemaValidationContext revalidate(SchemaValidationContext previous,
+                                              ResourceChangeSet changes,
+                                              String schemaName,
+                                              String namespacePrefix,
+                                              String storageServiceBaseUrl,
+                                              RepositorySettingsResource settingsResource,
+                                              Map<String, Map<String, RepositoryResource>> repositoryMap,
+                                              SchemaValidatorConfig config) {
+        // checks report into a context without the listener and the limit of errors,
+        // only results of the affected resources are taken from it
+        var currentResults = new SchemaValidationContext();
+        SchemaValidationContext context = null;
+        try {
+            ResourceView boxesMap = ResourceView.boxes(repositoryMap);
+            String namespace = namespacePrefix + schemaName;
+
+            // url paths of the changed boxes define which resources are affected
+            Set<String> changed = changes.getAll();
+            var changedUrlPaths = new SchemaValidationContext();
+            new BoxesValidator(changedUrlPaths, boxesOf(boxesMap, changed)).collectUrlPaths();
+            Set<String> affected = affectedResources(previous, changedUrlPaths, changes);
+            Map<String, RepositoryResource> affectedBoxes = boxesOf(boxesMap, affected);
+
+            // url paths of the unaffected boxes are the same as during the previous validation.
+            // the map is filled from scratch like during full validation, so conflicts are visited in the same order
+            Map<String, Set<String>> urlPaths = new HashMap<>();
+            previous.getUrlPaths().forEach((resourceName, resourceUrlPaths) -> {
+                if (!affected.contains(resourceName)) {
+                    urlPaths.put(resourceName, resourceUrlPaths);
+                }
+            });
+            new BoxesValidator(currentResults, affectedBoxes).collectUrlPaths().forEach(urlPaths::put);
+
+            new LinksValidator(currentResults, repositoryMap, boxesMap, config)
+                    .removeDuplicatePins(affectedBoxes.values());
+            new BoxesValidator(currentResults, affectedBoxes).detectUrlPathsConflicts(urlPaths);
+
+            var changedResults = combine(previous, currentResults, affected, config);
+            context = changedResults;
+            Supplier<SchemaIndex> schemaIndex = SchemaValidator.once(() -> SchemaIndex.build(boxesMap));
+            SchemaValidator.runPhase(changedResults,
+                    () -> new BoxesValidator(changedResults, affectedBoxes).validateSecrets(
+                            namespace, config.getSecretsSource(),
+                            schemaIndex.get().getReferences(affectedBoxes.keySet())));
+            SchemaValidator.runPhase(changedResults,
+                    () -> new LinksValidator(changedResults, repositoryMap, boxesMap, config)
+                            .validateLinks(schemaName, schemaIndex.get(), affectedBoxes.keySet()));
+            SchemaValidator.runPhase(changedResults, () -> new BookNamesValidator(
+                    settingsResource,
+                    storageServiceBaseUrl,
+                    changedResults,
+                    affectedBoxes,
+                    config
+            ).validate());
+            SchemaValidator.reportAbort(changedResults, config);
+        } catch (Exception e) {
+            if (context == null) {
+                context = new SchemaValidationContext(config);
+            }
+            context.addExceptionMessage(e);
+            context.markIncomplete();
+        }
+        return context;
+    }
+
+    private static Map<String, RepositoryResource> boxesOf(Map<String, RepositoryResource> boxesMap,
+                                                           Set<String> resourceNames) {
+        Map<String, RepositoryResource> boxes = new HashMap<>();
+        for (String resourceName : resourceNames) {
+            RepositoryResource box = boxesMap.get(resourceName);
+            if (box != null) {
+                boxes.put(resourceName, box);
+            }
+        }
+        return boxes;
+    }
+
+    /**
+     * @param changedResults results of the current validation, only results of the affected resources are taken
+     * @return context with the listener and the limit of errors of the config, which holds
+     * previous results of the unaffected resources and current results of the affected ones.
+     * Merged results are passed to the listener but don't count towards the limit of errors
+     */
+    static SchemaValidationContext combine(SchemaValidationContext previous,
+                                           SchemaValidationContext changedResults,
+                                           Set<String> affected,
+                                           SchemaValidatorConfig config) {
+        var context = new SchemaValidationContext(config);
+        context.merge(previous, name -> name != null && !affected.contains(name), false);
+        context.merge(changedResults, name -> name == null || affected.contains(name), true);
+        return context;
+    }
+
+    /**
+     * @param current context which already holds url paths of the changed boxes
+     */
+    static Set<String> affectedResources(SchemaValidationContext previous,
+                                         SchemaValidationContext current,
+                                         ResourceChangeSet changes) {
+        Set<String> changed = changes.getAll();
+        Set<String> affected = new HashSet<>(changed);
+        previous.getDependencies().forEach((resourceName, dependencies) -> {
+            for (String dependency : dependencies) {
+                if (changed.contains(dependency)) {
+                    affected.add(resourceName);
+                    return;
+                }
+            }
+        });
+
+        // conflicts and overlaps of url paths are reported for pairs of resources,
+        // so the whole group of resources connected by the same or nested paths is checked again
+        var urlPathTrie = new UrlPathTrie();
+        addUrlPaths(previous.getUrlPaths(), urlPathTrie);
+        addUrlPaths(current.getUrlPaths(), urlPathTrie);
+        Queue<String> queue = new ArrayDeque<>(affected);
+        while (!queue.isEmpty()) {
+            String resourceName = queue.poll();
+            for (var urlPaths : List.of(
+                    previous.getUrlPaths().getOrDefault(resourceName, Set.of()),
+                    current.getUrlPaths().getOrDefault(resourceName, Set.of()))) {
+                for (String urlPath : urlPaths) {
+                    for (String owner : urlPathTrie.overlappingOwners(urlPath)) {
+                        if (affected.add(owner)) {
+                            queue.add(owner);
+                        }
+                    }
+                }
+            }
+        }
+        return affected;
+    }
+
+    private static void addUrlPaths(Map<String, Set<String>> urlPaths, UrlPathTrie urlPathTrie) {
+        urlPaths.forEach((resourceName, resourceUrlPaths) -> {
+            for (String urlPath : resourceUrlPaths) {
+                urlPathTrie.add(urlPath, resourceName);
+            }
+        });
+    }
+}
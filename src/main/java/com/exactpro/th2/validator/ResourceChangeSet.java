@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Names of the resources which were added, changed or removed since the previous validation.
+ */
+public final class ResourceChangeSet {
+
+    private final Set<String> added;
+
+    private final Set<String> changed;
+
+    private final Set<String> removed;
+
+    public ResourceChangeSet(Set<String> added, Set<String> changed, Set<String> removed) {
+        this.added = Set.copyOf(added);
+        this.changed = Set.copyOf(changed);
+        this.removed = Set.copyOf(removed);
+    }
+
+    public Set<String> getAdded() {
+        return added;
+    }
+
+    public Set<String> getChanged() {
+        return changed;
+    }
+
+    public Set<String> getRemoved() {
+        return removed;
+    }
+
+    public Set<String> getAll() {
+        Set<String> all = new HashSet<>(added);
+        all.addAll(changed);
+        all.addAll(removed);
+        return all;
+    }
+
+    public boolean contains(String resourceName) {
+        return added.contains(resourceName) || changed.contains(resourceName) || removed.contains(resourceName);
+    }
+}
@@ -19,16 +19,17 @@ package com.exactpro.th2.validator;
 import com.exactpro.th2.validator.links.enums.ValidationStatus;
 import com.exactpro.th2.validator.model.link.MessageLink;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class ResourceValidationContext {
 
-    private ValidationStatus status = ValidationStatus.VALID;
+    private volatile ValidationStatus status = ValidationStatus.VALID;
 
-    private final List<MessageLink> validMqLinks = new ArrayList<>();
+    private final Queue<MessageLink> validMqLinks = new ConcurrentLinkedQueue<>();
 
-    private final List<MessageLink> validGrpcLinks = new ArrayList<>();
+    private final Queue<MessageLink> validGrpcLinks = new ConcurrentLinkedQueue<>();
 
     public void setInvalid() {
         this.status = ValidationStatus.INVALID;
@@ -43,11 +44,11 @@ public class ResourceValidationContext {
     }
 
     public List<MessageLink> getValidMqLinks() {
-        return validMqLinks;
+        return List.copyOf(validMqLinks);
     }
 
     public List<MessageLink> getValidGrpcLinks() {
-        return validGrpcLinks;
+        return List.copyOf(validGrpcLinks);
     }
 
     public ValidationStatus getStatus() {
@@ -57,4 +58,12 @@ public class ResourceValidationContext {
     public boolean isInvalid() {
         return status == ValidationStatus.INVALID;
     }
+
+    void merge(ResourceValidationContext other) {
+        if (other.isInvalid()) {
+            setInvalid();
+        }
+        this.validMqLinks.addAll(other.validMqLinks);
+        this.validGrpcLinks.addAll(other.validGrpcLinks);
+    }
 }
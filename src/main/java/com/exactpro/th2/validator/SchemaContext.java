@@ -17,6 +17,9 @@
 package com.exactpro.th2.validator;
 
 import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.exactpro.th2.validator.cache.ValidationCache;
+import com.exactpro.th2.validator.model.Th2Spec;
+
 import java.util.Collection;
 import java.util.Map;
 
@@ -28,16 +31,39 @@ public class SchemaContext {
 
     private final Map<String, RepositoryResource> dictionaries;
 
+    private final SchemaIndex schemaIndex;
+
     private final SchemaValidationContext schemaValidationContext;
 
+    private final ValidationCache validationCache;
+
     public SchemaContext(String schemaName,
                          Map<String, RepositoryResource> allBoxes,
                          Map<String, RepositoryResource> dictionaries,
                          SchemaValidationContext schemaValidationContext) {
+        this(schemaName, allBoxes, dictionaries, SchemaIndex.build(allBoxes), schemaValidationContext);
+    }
+
+    public SchemaContext(String schemaName,
+                         Map<String, RepositoryResource> allBoxes,
+                         Map<String, RepositoryResource> dictionaries,
+                         SchemaIndex schemaIndex,
+                         SchemaValidationContext schemaValidationContext) {
+        this(schemaName, allBoxes, dictionaries, schemaIndex, schemaValidationContext, null);
+    }
+
+    public SchemaContext(String schemaName,
+                         Map<String, RepositoryResource> allBoxes,
+                         Map<String, RepositoryResource> dictionaries,
+                         SchemaIndex schemaIndex,
+                         SchemaValidationContext schemaValidationContext,
+                         ValidationCache validationCache) {
         this.schemaName = schemaName;
         this.allBoxes = allBoxes;
         this.dictionaries = dictionaries;
+        this.schemaIndex = schemaIndex;
         this.schemaValidationContext = schemaValidationContext;
+        this.validationCache = validationCache;
     }
 
     public String getSchemaName() {
@@ -48,6 +74,14 @@ public class SchemaContext {
         return allBoxes.get(boxName);
     }
 
+    public Th2Spec getSpec(String boxName) {
+        return schemaIndex.getSpec(boxName);
+    }
+
+    public SchemaIndex getSchemaIndex() {
+        return schemaIndex;
+    }
+
     public Collection<RepositoryResource> getAllBoxes() {
         return allBoxes.values();
     }
@@ -64,4 +98,19 @@ public class SchemaContext {
         return schemaValidationContext;
     }
 
+    /**
+     * @return cache of link outcomes or null if outcomes aren't cached
+     */
+    public ValidationCache getValidationCache() {
+        return validationCache;
+    }
+
+    /**
+     * @return context of the same schema which reports into other validation context
+     */
+    public SchemaContext withValidationContext(SchemaValidationContext validationContext) {
+        return new SchemaContext(schemaName, allBoxes, dictionaries, schemaIndex, validationContext,
+                validationCache);
+    }
+
 }
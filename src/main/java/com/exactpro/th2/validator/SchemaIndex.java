@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator;
+
+import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.exactpro.th2.validator.model.Th2Spec;
+import com.exactpro.th2.validator.util.CustomConfigReferences;
+import com.exactpro.th2.validator.util.SecretsUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.exactpro.th2.validator.util.MapperUtils.MAPPER;
+
+/**
+ * Typed specs and custom config references of the boxes of the schema.
+ * Each box is converted at most once per validation run, on the first request,
+ * so boxes which aren't involved in the checks (e.g. during incremental validation) are never converted.
+ * Must not be used before the raw specs are final (i.e. before duplicate pins are removed).
+ * Safe for concurrent use.
+ */
+public final class SchemaIndex {
+
+    private final Map<String, RepositoryResource> boxesMap;
+
+    private final Map<String, ConvertedSpec> specs = new ConcurrentHashMap<>();
+
+    private final Map<String, CustomConfigReferences> references;
+
+    /**
+     * true if the references of all boxes were collected before the index was built
+     */
+    private final boolean referencesCollected;
+
+    private SchemaIndex(Map<String, RepositoryResource> boxesMap,
+                        Map<String, CustomConfigReferences> references) {
+        this.boxesMap = boxesMap;
+        this.referencesCollected = references != null;
+        this.references = references != null ? references : new ConcurrentHashMap<>();
+    }
+
+    public static SchemaIndex build(Map<String, RepositoryResource> boxesMap) {
+        return new SchemaIndex(boxesMap, null);
+    }
+
+    /**
+     * @param references custom config references of the boxes which were already collected in this run
+     */
+    public static SchemaIndex build(Map<String, RepositoryResource> boxesMap,
+                                    Map<String, CustomConfigReferences> references) {
+        return new SchemaIndex(boxesMap, references);
+    }
+
+    /**
+     * @return true if the box exists, even if it has no spec or its spec can't be converted
+     */
+    public boolean contains(String boxName) {
+        return boxName != null && boxesMap.containsKey(boxName);
+    }
+
+    /**
+     * @return typed spec of the box or null if box doesn't exist or has no spec.
+     * @throws RuntimeException the same exception which was thrown when spec of the box was converted
+     */
+    public Th2Spec getSpec(String boxName) {
+        if (boxName == null) {
+            return null;
+        }
+        ConvertedSpec converted = specs.get(boxName);
+        if (converted == null) {
+            RepositoryResource box = boxesMap.get(boxName);
+            if (box == null) {
+                return null;
+            }
+            // converted outside of the map, so that conversions of different boxes don't block each other.
+            // if two threads convert the same box, both use the spec which was put first
+            converted = ConvertedSpec.of(box);
+            ConvertedSpec existing = specs.putIfAbsent(boxName, converted);
+            if (existing != null) {
+                converted = existing;
+            }
+        }
+        if (converted.error != null) {
+            throw converted.error;
+        }
+        return converted.spec;
+    }
+
+    /**
+     * @return references from the custom config of the box, empty if the box doesn't exist or has no custom config
+     */
+    public CustomConfigReferences getReferences(String boxName) {
+        if (boxName == null) {
+            return CustomConfigReferences.EMPTY;
+        }
+        CustomConfigReferences boxReferences = references.get(boxName);
+        if (boxReferences != null || referencesCollected) {
+            return boxReferences != null ? boxReferences : CustomConfigReferences.EMPTY;
+        }
+        RepositoryResource box = boxesMap.get(boxName);
+        if (box == null) {
+            return CustomConfigReferences.EMPTY;
+        }
+        boxReferences = CustomConfigReferences.collect(SecretsUtils.extractCustomConfig(box));
+        references.putIfAbsent(boxName, boxReferences);
+        return boxReferences;
+    }
+
+    /**
+     * @return custom config references of the given boxes, by the name of the box
+     */
+    public Map<String, CustomConfigReferences> getReferences(Iterable<String> boxNames) {
+        Map<String, CustomConfigReferences> boxesReferences = new HashMap<>();
+        for (String boxName : boxNames) {
+            boxesReferences.put(boxName, getReferences(boxName));
+        }
+        return Collections.unmodifiableMap(boxesReferences);
+    }
+
+    /**
+     * @return custom config references of every box, by the name of the box
+     */
+    public Map<String, CustomConfigReferences> getAllReferences() {
+        if (referencesCollected) {
+            return references;
+        }
+        return getReferences(boxesMap.keySet());
+    }
+
+    private static final class ConvertedSpec {
+
+        private final Th2Spec spec;
+
+        private final RuntimeException error;
+
+        private ConvertedSpec(Th2Spec spec, RuntimeException error) {
+            this.spec = spec;
+            this.error = error;
+        }
+
+        private static ConvertedSpec of(RepositoryResource box) {
+            try {
+                return new ConvertedSpec(MAPPER.convertValue(box.getSpec(), Th2Spec.class), null);
+            } catch (RuntimeException e) {
+                return new ConvertedSpec(null, e);
+            }
+        }
+    }
+}
@@ -20,18 +20,67 @@ import com.exactpro.th2.validator.errormessages.BoxResourceErrorMessage;
 import com.exactpro.th2.validator.errormessages.LinkErrorMessage;
 import com.exactpro.th2.validator.model.link.MessageLink;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+/**
+ * All methods are safe to call from several threads concurrently.
+ * Workers which need a deterministic order of results should fill their own contexts and {@link #merge} them.
+ */
 public final class SchemaValidationContext {
 
-    private boolean valid = true;
+    private volatile boolean valid = true;
+
+    private final Map<String, ResourceValidationContext> resources = new ConcurrentHashMap<>();
+
+    private final ValidationListener listener;
+
+    private final ValidationReport report;
+
+    /**
+     * number of errors added to this context and to all contexts forked from it
+     */
+    private final AtomicInteger errorCount;
+
+    private final int maxErrors;
 
-    private final Map<String, ResourceValidationContext> resources = new HashMap<>();
+    private final Map<String, Set<String>> dependencies = new ConcurrentHashMap<>();
 
-    private final ValidationReport report = new ValidationReport();
+    private final Map<String, Set<String>> urlPaths = new ConcurrentHashMap<>();
+
+    private volatile boolean complete = true;
+
+    public SchemaValidationContext() {
+        this(SchemaValidatorConfig.DEFAULT);
+    }
+
+    /**
+     * @param config provides the listener of the results and the limit of errors
+     */
+    public SchemaValidationContext(SchemaValidatorConfig config) {
+        this(config.getValidationListener(), new AtomicInteger(), config.getMaxErrors());
+    }
+
+    private SchemaValidationContext(ValidationListener listener, AtomicInteger errorCount, int maxErrors) {
+        this.listener = listener != null ? listener : ValidationReport.NO_LISTENER;
+        this.report = new ValidationReport(this.listener);
+        this.errorCount = errorCount;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * @return empty context for a worker which validates a part of the schema.
+     * it shares the limit of errors with this context, but doesn't notify the listener:
+     * results are reported when the worker's context is merged into this one
+     */
+    public SchemaValidationContext fork() {
+        return new SchemaValidationContext(ValidationReport.NO_LISTENER, errorCount, maxErrors);
+    }
 
     public boolean isValid() {
         return valid;
@@ -42,45 +91,167 @@ public final class SchemaValidationContext {
     }
 
     public Set<String> getInvalidResources() {
-        return resources.keySet().stream()
-                .filter(name -> resources.get(name).isInvalid())
+        return resources.entrySet().stream()
+                .filter(entry -> entry.getValue().isInvalid())
+                .map(Map.Entry::getKey)
                 .collect(Collectors.toUnmodifiableSet());
     }
 
     public void setInvalidResource(String resourceName) {
-        this.resources.computeIfAbsent(resourceName, k -> new ResourceValidationContext()).setInvalid();
-        this.valid = false;
+        resource(resourceName).setInvalid();
+        markInvalid();
     }
 
     public void addExceptionMessage(String exceptionMessage) {
-        this.report.addExceptionMessage(exceptionMessage);
-        this.valid = false;
+        this.report.addExceptionMessage(Objects.requireNonNullElse(exceptionMessage, "Unexpected error"));
+        markInvalid();
+        errorCount.incrementAndGet();
+    }
+
+    /**
+     * reports the message of the exception, or the exception itself if it has no message (e.g. a bare NPE)
+     */
+    public void addExceptionMessage(Exception exception) {
+        addExceptionMessage(Objects.requireNonNullElse(exception.getMessage(), exception.toString()));
+    }
+
+    public void addWarningMessage(String warningMessage) {
+        this.report.addWarningMessage(warningMessage);
     }
 
     public void addValidMqLink(String resourceName, MessageLink link) {
-        this.resources.computeIfAbsent(resourceName, k -> new ResourceValidationContext()).addValidMqLink(link);
+        resource(resourceName).addValidMqLink(link);
+        listener.onValidMqLink(resourceName, link);
     }
 
     public void addValidGrpcLink(String resourceName, MessageLink link) {
-        this.resources.computeIfAbsent(resourceName, k -> new ResourceValidationContext()).addValidGrpcLink(link);
+        resource(resourceName).addValidGrpcLink(link);
+        listener.onValidGrpcLink(resourceName, link);
     }
 
     public void addLinkErrorMessage(LinkErrorMessage linkErrorMessage) {
-        this.valid = false;
+        markInvalid();
         report.addLinkErrorMessage(linkErrorMessage);
+        errorCount.incrementAndGet();
     }
 
     public void addBoxResourceErrorMessages(BoxResourceErrorMessage boxResourceErrorMessage) {
-        this.valid = false;
+        markInvalid();
         report.addBoxResourceErrorMessages(boxResourceErrorMessage);
+        errorCount.incrementAndGet();
     }
 
     public void addBookErrorMessages(BoxResourceErrorMessage bookErrorMessage) {
-        this.valid = false;
+        markInvalid();
         report.addBookErrorMessages(bookErrorMessage);
+        errorCount.incrementAndGet();
+    }
+
+    /**
+     * @return true if the limit of errors is reached and the remaining checks should be skipped
+     */
+    public boolean isAborted() {
+        return maxErrors > 0 && errorCount.get() >= maxErrors;
     }
 
     public ResourceValidationContext getResource(String resName) {
         return resources.get(resName);
     }
+
+    /**
+     * Records that results of the resource depend on the other resource (e.g. a linked box or a dictionary),
+     * so they have to be recomputed when the other resource changes.
+     * Missing names (e.g. linkTo entry without a box) are ignored, such links are reported by the link checks.
+     */
+    public void addDependency(String resourceName, String dependsOn) {
+        if (resourceName == null || dependsOn == null) {
+            return;
+        }
+        dependencies.computeIfAbsent(resourceName, k -> ConcurrentHashMap.newKeySet()).add(dependsOn);
+    }
+
+    public void setUrlPaths(String resourceName, Set<String> resourceUrlPaths) {
+        urlPaths.put(resourceName, Set.copyOf(resourceUrlPaths));
+    }
+
+    Map<String, Set<String>> getDependencies() {
+        return dependencies;
+    }
+
+    Map<String, Set<String>> getUrlPaths() {
+        return urlPaths;
+    }
+
+    /**
+     * @return false if validation was interrupted by an unexpected exception or by reaching the limit of errors,
+     * so some checks weren't run
+     */
+    public boolean isComplete() {
+        return complete && !isAborted();
+    }
+
+    void markIncomplete() {
+        this.complete = false;
+    }
+
+    /**
+     * Appends results collected by other context (e.g. by a parallel worker) after the results of this one.
+     * Merged results are passed to the listener, but don't count towards the limit of errors again.
+     */
+    public void merge(SchemaValidationContext other) {
+        merge(other, resourceName -> true, true);
+    }
+
+    /**
+     * Appends results of the resources accepted by the filter.
+     * Exception and warning messages aren't bound to resources, they are merged only when requested.
+     */
+    void merge(SchemaValidationContext other, Predicate<String> resourceFilter, boolean withExceptionMessages) {
+        boolean merged = report.merge(other.report, resourceFilter, withExceptionMessages);
+        for (var entry : other.resources.entrySet()) {
+            if (resourceFilter.test(entry.getKey())) {
+                var resource = entry.getValue();
+                resource(entry.getKey()).merge(resource);
+                merged |= resource.isInvalid();
+                for (var link : resource.getValidMqLinks()) {
+                    listener.onValidMqLink(entry.getKey(), link);
+                }
+                for (var link : resource.getValidGrpcLinks()) {
+                    listener.onValidGrpcLink(entry.getKey(), link);
+                }
+            }
+        }
+        other.dependencies.forEach((resourceName, resourceDependencies) -> {
+            if (resourceFilter.test(resourceName)) {
+                resourceDependencies.forEach(dependsOn -> addDependency(resourceName, dependsOn));
+            }
+        });
+        other.urlPaths.forEach((resourceName, resourceUrlPaths) -> {
+            if (resourceFilter.test(resourceName)) {
+                urlPaths.put(resourceName, resourceUrlPaths);
+            }
+        });
+        if (!other.isComplete()) {
+            markIncomplete();
+        }
+        if (merged) {
+            markInvalid();
+        }
+    }
+
+    private ResourceValidationContext resource(String resourceName) {
+        // plain read first: computeIfAbsent may lock the bin even if the resource is already there
+        ResourceValidationContext resource = resources.get(resourceName);
+        if (resource != null) {
+            return resource;
+        }
+        return resources.computeIfAbsent(resourceName, k -> new ResourceValidationContext());
+    }
+
+    private void markInvalid() {
+        // avoid writing the shared field over and over, once it's already false
+        if (valid) {
+            valid = false;
+        }
+    }
 }
@@ -16,20 +16,25 @@
 
 package com.exactpro.th2.validator;
 
-import com.exactpro.th2.infrarepo.ResourceType;
 import com.exactpro.th2.infrarepo.repo.RepositoryResource;
 import com.exactpro.th2.infrarepo.settings.RepositorySettingsResource;
 import com.exactpro.th2.validator.boxes.BoxesValidator;
 import com.exactpro.th2.validator.links.LinksValidator;
 import com.exactpro.th2.validator.model.link.MessageLink;
 import com.exactpro.th2.validator.model.pin.*;
+import com.exactpro.th2.validator.util.CustomConfigReferences;
+import com.exactpro.th2.validator.util.ResourceView;
 import com.exactpro.th2.validator.util.SourceHashUtil;
 import com.fasterxml.jackson.core.JsonProcessingException;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static com.exactpro.th2.validator.links.enums.ValidationStatus.VALID;
-import static com.exactpro.th2.validator.util.MapperUtils.MAPPER;
 import static com.exactpro.th2.validator.util.ResourceUtils.*;
 
 @SuppressWarnings("unchecked")
@@ -40,97 +45,319 @@ public class SchemaValidator {
                                                    String storageServiceBaseUrl,
                                                    RepositorySettingsResource settingsResource,
                                                    Map<String, Map<String, RepositoryResource>> repositoryMap) {
-        var schemaValidationContext = new SchemaValidationContext();
+        return validate(schemaName, namespacePrefix, storageServiceBaseUrl, settingsResource, repositoryMap,
+                SchemaValidatorConfig.DEFAULT);
+    }
+
+    public static SchemaValidationContext validate(String schemaName,
+                                                   String namespacePrefix,
+                                                   String storageServiceBaseUrl,
+                                                   RepositorySettingsResource settingsResource,
+                                                   Map<String, Map<String, RepositoryResource>> repositoryMap,
+                                                   SchemaValidatorConfig config) {
+        var schemaValidationContext = new SchemaValidationContext(config);
         try {
-            Map<String, RepositoryResource> boxesMap = collectResources(
-                    repositoryMap,
-                    ResourceType.Th2Box.kind(),
-                    ResourceType.Th2CoreBox.kind(),
-                    ResourceType.Th2Job.kind(),
-                    ResourceType.Th2Mstore.kind(),
-                    ResourceType.Th2Estore.kind()
-            );
+            ResourceView boxesMap = ResourceView.boxes(repositoryMap);
             String namespace = namespacePrefix + schemaName;
 
-            var boxesValidator = new BoxesValidator(schemaValidationContext, boxesMap);
-            boxesValidator.detectUrlPathsConflicts();
-            boxesValidator.validateSecrets(namespace);
+            // custom configs are walked once by the first phase which needs them,
+            // results are shared by the secrets and the dictionary links checks
+            Supplier<Map<String, CustomConfigReferences>> references =
+                    once(() -> CustomConfigReferences.index(boxesMap));
 
-            var linksValidator = new LinksValidator(schemaValidationContext, repositoryMap);
-            linksValidator.removeDuplicatePins();
-            linksValidator.validateLinks(schemaName);
-
-            var booksValidator = new BookNamesValidator(
+            Consumer<SchemaValidationContext> urlPathsPhase = context ->
+                    new BoxesValidator(context, boxesMap).detectUrlPathsConflicts();
+            Consumer<SchemaValidationContext> secretsPhase = context -> new BoxesValidator(context, boxesMap)
+                    .validateSecrets(namespace, config.getSecretsSource(), references.get());
+            Consumer<SchemaValidationContext> linksPhase = context -> {
+                var linksValidator = new LinksValidator(context, repositoryMap, boxesMap, config);
+                runPhase(context, linksValidator::removeDuplicatePins);
+                // typed specs must reflect the raw specs with duplicate pins already removed
+                var schemaIndex = SchemaIndex.build(boxesMap, references.get());
+                runPhase(context, () -> linksValidator.validateLinks(schemaName, schemaIndex));
+            };
+            Consumer<SchemaValidationContext> booksPhase = context -> new BookNamesValidator(
                     settingsResource,
                     storageServiceBaseUrl,
-                    schemaValidationContext,
-                    boxesMap
-            );
-            booksValidator.validate();
+                    context,
+                    boxesMap,
+                    config
+            ).validate();
+
+            runPhases(schemaValidationContext, config.getPhaseExecutor(),
+                    List.of(urlPathsPhase, secretsPhase, linksPhase, booksPhase));
+            reportAbort(schemaValidationContext, config);
         } catch (Exception e) {
-            schemaValidationContext.addExceptionMessage(e.getMessage());
+            schemaValidationContext.addExceptionMessage(e);
+            schemaValidationContext.markIncomplete();
         }
         return schemaValidationContext;
     }
 
-    private static void setValidLinkToSections(
+    /**
+     * runs the phase of the validation unless the limit of errors is already reached
+     */
+    static void runPhase(SchemaValidationContext validationContext, Runnable phase) {
+        if (!validationContext.isAborted()) {
+            phase.run();
+        }
+    }
+
+    /**
+     * Runs independent phases of the validation. Without an executor phases are run one after another
+     * in the calling thread. With an executor all phases are started at once, each reports into its own
+     * forked context, and the contexts are merged in the order of the phases, so the report is the same
+     * as after sequential validation. A phase is merged as soon as it and all the previous phases have finished.
+     * Forks share the limit of errors, so reaching it in one phase stops the others at their next check.
+     * Phases which depend on each other (e.g. removal of duplicate pins and validation of links) have to be
+     * combined into one phase.
+     * If a phase fails, results of the following phases are dropped, as if they weren't run.
+     */
+    static void runPhases(SchemaValidationContext validationContext,
+                          Executor executor,
+                          List<Consumer<SchemaValidationContext>> phases) {
+        if (executor == null) {
+            for (var phase : phases) {
+                runPhase(validationContext, () -> phase.accept(validationContext));
+            }
+            return;
+        }
+
+        List<SchemaValidationContext> phaseContexts = new ArrayList<>();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (var phase : phases) {
+            var phaseContext = validationContext.fork();
+            phaseContexts.add(phaseContext);
+            tasks.add(CompletableFuture.runAsync(
+                    () -> runPhase(phaseContext, () -> phase.accept(phaseContext)), executor));
+        }
+        // each phase is merged as soon as it and all the previous ones have finished,
+        // so the listener receives results while the following phases are still running
+        RuntimeException failure = null;
+        for (int i = 0; i < tasks.size(); i++) {
+            try {
+                tasks.get(i).join();
+            } catch (CompletionException e) {
+                failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                break;
+            }
+            validationContext.merge(phaseContexts.get(i));
+        }
+        if (failure != null) {
+            // phases may still modify the specs, so all of them have to finish before the failure is reported
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).exceptionally(e -> null).join();
+            throw failure;
+        }
+    }
+
+    /**
+     * @return supplier which computes the value on the first call, so that failures are reported
+     * by the phase which needs the value
+     */
+    static <T> Supplier<T> once(Supplier<T> supplier) {
+        return new Supplier<>() {
+            private T value;
+
+            @Override
+            public synchronized T get() {
+                if (value == null) {
+                    value = supplier.get();
+                }
+                return value;
+            }
+        };
+    }
+
+    static void reportAbort(SchemaValidationContext validationContext, SchemaValidatorConfig config) {
+        if (validationContext.isAborted()) {
+            validationContext.addExceptionMessage(String.format(
+                    "Validation was stopped after %d errors, the remaining checks were skipped",
+                    config.getMaxErrors()));
+        }
+    }
+
+    /**
+     * Validates the schema again after the given resources were added, changed or removed.
+     * Checks are re-run only for the affected resources, results of other resources are taken
+     * from the previous context. Falls back to full validation if there is no complete previous context
+     * or the settings resource has changed.
+     */
+    public static SchemaValidationContext revalidate(SchemaValidationContext previous,
+                                                     ResourceChangeSet changes,
+                                                     String schemaName,
+                                                     String namespacePrefix,
+                                                     String storageServiceBaseUrl,
+                                                     RepositorySettingsResource settingsResource,
+                                                     Map<String, Map<String, RepositoryResource>> repositoryMap) {
+        return revalidate(previous, changes, schemaName, namespacePrefix, storageServiceBaseUrl,
+                settingsResource, repositoryMap, SchemaValidatorConfig.DEFAULT);
+    }
+
+    public static SchemaValidationContext revalidate(SchemaValidationContext previous,
+                                                     ResourceChangeSet changes,
+                                                     String schemaName,
+                                                     String namespacePrefix,
+                                                     String storageServiceBaseUrl,
+                                                     RepositorySettingsResource settingsResource,
+                                                     Map<String, Map<String, RepositoryResource>> repositoryMap,
+                                                     SchemaValidatorConfig config) {
+        if (previous == null
+                || !previous.isComplete()
+                || changes.contains(settingsResource.getMetadata().getName())) {
+            return validate(schemaName, namespacePrefix, storageServiceBaseUrl,
+                    settingsResource, repositoryMap, config);
+        }
+        return IncrementalSchemaValidator.revalidate(previous, changes, schemaName, namespacePrefix,
+                storageServiceBaseUrl, settingsResource, repositoryMap, config);
+    }
+
+    /**
+     * @return true if linkTo section of at least one pin was changed
+     */
+    private static boolean setValidLinkToSections(
             List<Map<String, Object>> pins, Map<String, List<LinkToEndpoint>> validLinkToMapping) {
 
+        boolean changed = false;
         for (var pin : pins) {
             var pinName = (String) pin.get("name");
             if (validLinkToMapping.containsKey(pinName)) {
-                pin.put("linkTo", validLinkToMapping.get(pinName));
+                List<LinkToEndpoint> validLinkTo = validLinkToMapping.get(pinName);
+                if (!sameLinkTo(pin.get("linkTo"), validLinkTo)) {
+                    pin.put("linkTo", validLinkTo);
+                    changed = true;
+                }
             }
         }
+        return changed;
+    }
+
+    /**
+     * compares the current linkTo section of the pin, either raw or already rewritten, with the valid one
+     */
+    private static boolean sameLinkTo(Object current, List<LinkToEndpoint> validLinkTo) {
+        if (current == null || validLinkTo == null) {
+            return current == validLinkTo;
+        }
+        if (!(current instanceof List)) {
+            return false;
+        }
+        var currentLinkTo = (List<Object>) current;
+        if (currentLinkTo.size() != validLinkTo.size()) {
+            return false;
+        }
+        for (int i = 0; i < validLinkTo.size(); i++) {
+            Object endpoint = currentLinkTo.get(i);
+            LinkToEndpoint validEndpoint = validLinkTo.get(i);
+            if (endpoint instanceof Map) {
+                var rawEndpoint = (Map<String, Object>) endpoint;
+                if (rawEndpoint.size() != 2
+                        || !validEndpoint.getBox().equals(rawEndpoint.get("box"))
+                        || !validEndpoint.getPin().equals(rawEndpoint.get("pin"))) {
+                    return false;
+                }
+            } else if (!validEndpoint.equals(endpoint)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public static void removeInvalidLinks(SchemaValidationContext validationContext,
                                           Collection<RepositoryResource> boxes) throws JsonProcessingException {
+        removeInvalidLinks(validationContext, boxes, null);
+    }
+
+    /**
+     * Removes invalid links from linkTo sections of the invalid boxes.
+     * Source hash is recalculated only for the boxes whose linkTo sections were actually changed.
+     *
+     * @param executor executor to rewrite boxes on, or null to rewrite them sequentially in the calling thread
+     */
+    public static void removeInvalidLinks(SchemaValidationContext validationContext,
+                                          Collection<RepositoryResource> boxes,
+                                          Executor executor) throws JsonProcessingException {
+        if (executor == null) {
+            for (var box : boxes) {
+                removeInvalidLinks(validationContext, box);
+            }
+            return;
+        }
 
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
         for (var box : boxes) {
-            String resName = box.getMetadata().getName();
-            ResourceValidationContext resValidationContext = validationContext.getResource(resName);
-            if (resValidationContext == null || resValidationContext.getStatus().equals(VALID)) {
-                continue;
+            if (needsRewrite(validationContext, box)) {
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        removeInvalidLinks(validationContext, box);
+                    } catch (JsonProcessingException e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor));
             }
-            var spec = (Map<String, Object>) box.getSpec();
-            if (spec == null) {
-                continue;
+        }
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof JsonProcessingException) {
+                throw (JsonProcessingException) cause;
             }
-
-            Map<String, Object> pinSpec = getSection(spec, "pins");
-            Map<String, Object> mq = getSection(pinSpec, "mq");
-            List<Map<String, Object>> subscribersSection = getSectionArray(mq, "subscribers");
-
-            if (subscribersSection != null) {
-                Set<String> linkFulSubs = getLinkFulPinNames(subscribersSection);
-                List<MessageLink> validMqLinks = resValidationContext.getValidMqLinks();
-                Map<String, List<LinkToEndpoint>> validMqSubsLinkTo = new HashMap<>();
-                validMqLinks.forEach(msgLink ->
-                        validMqSubsLinkTo.computeIfAbsent(msgLink.getToPin(),
-                                sub -> new ArrayList<>()).add(msgLink.mqLinkToEndpoint()));
-                /* we have to remove LinkTos from all pins which have no valid links */
-                linkFulSubs.forEach(sub -> validMqSubsLinkTo.putIfAbsent(sub, null));
-                setValidLinkToSections(subscribersSection, validMqSubsLinkTo);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
             }
+            throw e;
+        }
+    }
+
+    private static boolean needsRewrite(SchemaValidationContext validationContext, RepositoryResource box) {
+        ResourceValidationContext resValidationContext = validationContext.getResource(box.getMetadata().getName());
+        return resValidationContext != null
+                && !resValidationContext.getStatus().equals(VALID)
+                && box.getSpec() != null;
+    }
 
-            Map<String, Object> grpc = getSection(pinSpec, "grpc");
-            List<Map<String, Object>> clientSection = getSectionArray(grpc, "client");
+    private static void removeInvalidLinks(SchemaValidationContext validationContext,
+                                           RepositoryResource box) throws JsonProcessingException {
+        if (!needsRewrite(validationContext, box)) {
+            return;
+        }
+        ResourceValidationContext resValidationContext = validationContext.getResource(box.getMetadata().getName());
+        var spec = (Map<String, Object>) box.getSpec();
+        boolean changed = false;
 
-            if (clientSection != null) {
-                Set<String> linkFulClients = getLinkFulPinNames(clientSection);
-                List<MessageLink> validGrpcLinks = resValidationContext.getValidGrpcLinks();
-                Map<String, List<LinkToEndpoint>> validGrpcClientsLinkTo = new HashMap<>();
-                validGrpcLinks.forEach(msgLink ->
-                        validGrpcClientsLinkTo.computeIfAbsent(msgLink.getFromPin(),
-                                client -> new ArrayList<>()).add(msgLink.grpcLinkToEndpoint()));
+        Map<String, Object> pinSpec = getSection(spec, "pins");
+        Map<String, Object> mq = getSection(pinSpec, "mq");
+        List<Map<String, Object>> subscribersSection = getSectionArray(mq, "subscribers");
 
-                linkFulClients.forEach(client -> validGrpcClientsLinkTo.putIfAbsent(client, null));
-                setValidLinkToSections(clientSection, validGrpcClientsLinkTo);
-            }
+        if (subscribersSection != null) {
+            Set<String> linkFulSubs = getLinkFulPinNames(subscribersSection);
+            List<MessageLink> validMqLinks = resValidationContext.getValidMqLinks();
+            Map<String, List<LinkToEndpoint>> validMqSubsLinkTo = new HashMap<>();
+            validMqLinks.forEach(msgLink ->
+                    validMqSubsLinkTo.computeIfAbsent(msgLink.getToPin(),
+                            sub -> new ArrayList<>()).add(msgLink.mqLinkToEndpoint()));
+            /* we have to remove LinkTos from all pins which have no valid links */
+            linkFulSubs.forEach(sub -> validMqSubsLinkTo.putIfAbsent(sub, null));
+            changed |= setValidLinkToSections(subscribersSection, validMqSubsLinkTo);
+        }
+
+        Map<String, Object> grpc = getSection(pinSpec, "grpc");
+        List<Map<String, Object>> clientSection = getSectionArray(grpc, "client");
+
+        if (clientSection != null) {
+            Set<String> linkFulClients = getLinkFulPinNames(clientSection);
+            List<MessageLink> validGrpcLinks = resValidationContext.getValidGrpcLinks();
+            Map<String, List<LinkToEndpoint>> validGrpcClientsLinkTo = new HashMap<>();
+            validGrpcLinks.forEach(msgLink ->
+                    validGrpcClientsLinkTo.computeIfAbsent(msgLink.getFromPin(),
+                            client -> new ArrayList<>()).add(msgLink.grpcLinkToEndpoint()));
+
+            linkFulClients.forEach(client -> validGrpcClientsLinkTo.putIfAbsent(client, null));
+            changed |= setValidLinkToSections(clientSection, validGrpcClientsLinkTo);
+        }
 
-            String specStr = MAPPER.writeValueAsString(spec);
-            box.setSourceHash(SourceHashUtil.digest(specStr));
+        if (changed) {
+            box.setSourceHash(SourceHashUtil.digestJson(spec));
         }
     }
 
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator;
+
+import com.exactpro.th2.validator.books.BookCatalog;
+import com.exactpro.th2.validator.books.BookCheckMode;
+import com.exactpro.th2.validator.books.BookLookupCache;
+import com.exactpro.th2.validator.books.StorageServiceSettings;
+import com.exactpro.th2.validator.cache.ValidationCache;
+import com.exactpro.th2.validator.secrets.SecretsSource;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+public final class SchemaValidatorConfig {
+
+    public static final SchemaValidatorConfig DEFAULT = new Builder().build();
+
+    private Executor linkValidationExecutor;
+
+    private Executor phaseExecutor;
+
+    private ValidationCache validationCache;
+
+    private ValidationListener validationListener;
+
+    private int maxErrors;
+
+    private BookCheckMode bookCheckMode;
+
+    private BookLookupCache bookLookupCache;
+
+    private StorageServiceSettings storageServiceSettings;
+
+    private SecretsSource secretsSource;
+
+    private BookCatalog bookCatalog;
+
+    /**
+     * @return executor to validate links on, or null if links are validated sequentially in the calling thread
+     */
+    public Executor getLinkValidationExecutor() {
+        return linkValidationExecutor;
+    }
+
+    /**
+     * Phases (url paths, secrets, links, books) wait for the results of their own tasks,
+     * so this executor shouldn't be the same bounded executor as the one links are validated on.
+     * The listener receives results of a phase when it and all the previous phases have finished,
+     * in the calling thread, in the same order as without the executor.
+     *
+     * @return executor to run the independent phases of the validation on concurrently,
+     * or null if phases are run one after another in the calling thread
+     */
+    public Executor getPhaseExecutor() {
+        return phaseExecutor;
+    }
+
+    /**
+     * @return cache of link outcomes shared between validation runs, or null if outcomes aren't cached
+     */
+    public ValidationCache getValidationCache() {
+        return validationCache;
+    }
+
+    /**
+     * @return listener which receives results as they are produced, or null
+     */
+    public ValidationListener getValidationListener() {
+        return validationListener;
+    }
+
+    /**
+     * @return number of errors after which the remaining checks are skipped, 0 if all checks are always run
+     */
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    /**
+     * @return the way books referenced by the schema are looked up in the storage service
+     */
+    public BookCheckMode getBookCheckMode() {
+        return bookCheckMode;
+    }
+
+    /**
+     * @return cache of keyspace and book lookups shared between validation runs, or null if lookups aren't cached
+     */
+    public BookLookupCache getBookLookupCache() {
+        return bookLookupCache;
+    }
+
+    /**
+     * @return timeouts, retries and the circuit breaker of the requests to the storage service
+     */
+    public StorageServiceSettings getStorageServiceSettings() {
+        return storageServiceSettings;
+    }
+
+    /**
+     * @return source of the secrets referenced by custom configs, or null if the shared Kubernetes source is used
+     */
+    public SecretsSource getSecretsSource() {
+        return secretsSource;
+    }
+
+    /**
+     * @return catalog of keyspaces and books, or null if they are requested from the storage service
+     */
+    public BookCatalog getBookCatalog() {
+        return bookCatalog;
+    }
+
+    public static class Builder {
+
+        private Executor linkValidationExecutor;
+
+        private Executor phaseExecutor;
+
+        private ValidationCache validationCache;
+
+        private ValidationListener validationListener;
+
+        private int maxErrors;
+
+        private BookCheckMode bookCheckMode = BookCheckMode.PER_BOOK;
+
+        private BookLookupCache bookLookupCache;
+
+        private StorageServiceSettings storageServiceSettings = StorageServiceSettings.DEFAULT;
+
+        private SecretsSource secretsSource;
+
+        private BookCatalog bookCatalog;
+
+        public Builder setLinkValidationExecutor(Executor linkValidationExecutor) {
+            this.linkValidationExecutor = linkValidationExecutor;
+            return this;
+        }
+
+        public Builder setPhaseExecutor(Executor phaseExecutor) {
+            this.phaseExecutor = phaseExecutor;
+            return this;
+        }
+
+        public Builder setValidationCache(ValidationCache validationCache) {
+            this.validationCache = validationCache;
+            return this;
+        }
+
+        public Builder setValidationListener(ValidationListener validationListener) {
+            this.validationListener = validationListener;
+            return this;
+        }
+
+        public Builder setMaxErrors(int maxErrors) {
+            if (maxErrors < 0) {
+                throw new IllegalArgumentException("maxErrors must not be negative: " + maxErrors);
+            }
+            this.maxErrors = maxErrors;
+            return this;
+        }
+
+        public Builder setBookCheckMode(BookCheckMode bookCheckMode) {
+            this.bookCheckMode = Objects.requireNonNull(bookCheckMode, "bookCheckMode");
+            return this;
+        }
+
+        public Builder setBookLookupCache(BookLookupCache bookLookupCache) {
+            this.bookLookupCache = bookLookupCache;
+            return this;
+        }
+
+        public Builder setStorageServiceSettings(StorageServiceSettings storageServiceSettings) {
+            this.storageServiceSettings = Objects.requireNonNull(storageServiceSettings, "storageServiceSettings");
+            return this;
+        }
+
+        public Builder setSecretsSource(SecretsSource secretsSource) {
+            this.secretsSource = secretsSource;
+            return this;
+        }
+
+        public Builder setBookCatalog(BookCatalog bookCatalog) {
+            this.bookCatalog = bookCatalog;
+            return this;
+        }
+
+        public SchemaValidatorConfig build() {
+
+            SchemaValidatorConfig config = new SchemaValidatorConfig();
+            config.linkValidationExecutor = linkValidationExecutor;
+            config.phaseExecutor = phaseExecutor;
+            config.validationCache = validationCache;
+            config.validationListener = validationListener;
+            config.maxErrors = maxErrors;
+            config.bookCheckMode = bookCheckMode;
+            config.bookLookupCache = bookLookupCache;
+            config.storageServiceSettings = storageServiceSettings;
+            config.secretsSource = secretsSource;
+            config.bookCatalog = bookCatalog;
+            return config;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator;
+
+import com.exactpro.th2.validator.errormessages.BoxResourceErrorMessage;
+import com.exactpro.th2.validator.errormessages.LinkErrorMessage;
+import com.exactpro.th2.validator.model.link.MessageLink;
+
+/**
+ * Receives results of the validation as soon as they are added to the {@link SchemaValidationContext}.
+ * Results of the workers which validate links in parallel are received when the worker's context is merged,
+ * in the same order as during sequential validation.
+ * Methods are never called concurrently for the same validation run.
+ */
+public interface ValidationListener {
+
+    default void onLinkError(LinkErrorMessage message) {
+    }
+
+    default void onBoxResourceError(BoxResourceErrorMessage message) {
+    }
+
+    default void onBookError(BoxResourceErrorMessage message) {
+    }
+
+    default void onException(String message) {
+    }
+
+    default void onWarning(String message) {
+    }
+
+    default void onValidMqLink(String resourceName, MessageLink link) {
+    }
+
+    default void onValidGrpcLink(String resourceName, MessageLink link) {
+    }
+}
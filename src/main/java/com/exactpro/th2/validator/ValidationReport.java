@@ -19,48 +19,120 @@ package com.exactpro.th2.validator;
 import com.exactpro.th2.validator.errormessages.BoxResourceErrorMessage;
 import com.exactpro.th2.validator.errormessages.LinkErrorMessage;
 
-import java.util.*;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
 
+/**
+ * Messages can be added from several threads concurrently. Getters return snapshots.
+ */
 public final class ValidationReport {
 
-    private final List<LinkErrorMessage> linkErrorMessages = new ArrayList<>();
+    static final ValidationListener NO_LISTENER = new ValidationListener() {
+    };
+
+    private final ValidationListener listener;
+
+    private final Queue<LinkErrorMessage> linkErrorMessages = new ConcurrentLinkedQueue<>();
+
+    private final Queue<BoxResourceErrorMessage> boxResourceErrorMessages = new ConcurrentLinkedQueue<>();
 
-    private final List<BoxResourceErrorMessage> boxResourceErrorMessages = new ArrayList<>();
+    private final Queue<BoxResourceErrorMessage> bookErrorMessages = new ConcurrentLinkedQueue<>();
 
-    private final List<BoxResourceErrorMessage> bookErrorMessages = new ArrayList<>();
+    private final Queue<String> exceptionMessages = new ConcurrentLinkedQueue<>();
+
+    private final Queue<String> warningMessages = new ConcurrentLinkedQueue<>();
+
+    public ValidationReport() {
+        this(NO_LISTENER);
+    }
 
-    private final List<String> exceptionMessages = new ArrayList<>();
+    ValidationReport(ValidationListener listener) {
+        this.listener = listener;
+    }
 
     public void addLinkErrorMessage(LinkErrorMessage linkErrorMsg) {
         this.linkErrorMessages.add(linkErrorMsg);
+        listener.onLinkError(linkErrorMsg);
     }
 
     public void addBoxResourceErrorMessages(BoxResourceErrorMessage boxResourceErrorMsg) {
         this.boxResourceErrorMessages.add(boxResourceErrorMsg);
+        listener.onBoxResourceError(boxResourceErrorMsg);
     }
 
     public void addBookErrorMessages(BoxResourceErrorMessage bookErrorMsg) {
         this.bookErrorMessages.add(bookErrorMsg);
+        listener.onBookError(bookErrorMsg);
     }
 
     public List<BoxResourceErrorMessage> getBookErrorMessages() {
-        return bookErrorMessages;
+        return List.copyOf(bookErrorMessages);
     }
 
     public List<LinkErrorMessage> getLinkErrorMessages() {
-        return linkErrorMessages;
+        return List.copyOf(linkErrorMessages);
     }
 
     public List<BoxResourceErrorMessage> getBoxResourceErrorMessages() {
-        return boxResourceErrorMessages;
+        return List.copyOf(boxResourceErrorMessages);
     }
 
     public List<String> getExceptionMessages() {
-        return exceptionMessages;
+        return List.copyOf(exceptionMessages);
     }
 
     public void addExceptionMessage(String exceptionMessage) {
         this.exceptionMessages.add(exceptionMessage);
+        listener.onException(exceptionMessage);
+    }
+
+    /**
+     * warnings are reported to the user, but don't make the schema invalid
+     */
+    public void addWarningMessage(String warningMessage) {
+        this.warningMessages.add(warningMessage);
+        listener.onWarning(warningMessage);
+    }
+
+    public List<String> getWarningMessages() {
+        return List.copyOf(warningMessages);
+    }
+
+    /**
+     * @param resourceFilter accepts names of resources whose messages are merged.
+     *                       link error messages without resource name are tested with null
+     * @return true if at least one error message was merged
+     */
+    boolean merge(ValidationReport other, Predicate<String> resourceFilter, boolean withExceptionMessages) {
+        boolean merged = false;
+        for (var linkErrorMessage : other.linkErrorMessages) {
+            if (resourceFilter.test(linkErrorMessage.getResourceName())) {
+                addLinkErrorMessage(linkErrorMessage);
+                merged = true;
+            }
+        }
+        for (var boxResourceErrorMessage : other.boxResourceErrorMessages) {
+            if (resourceFilter.test(boxResourceErrorMessage.getBox())) {
+                addBoxResourceErrorMessages(boxResourceErrorMessage);
+                merged = true;
+            }
+        }
+        for (var bookErrorMessage : other.bookErrorMessages) {
+            if (resourceFilter.test(bookErrorMessage.getBox())) {
+                addBookErrorMessages(bookErrorMessage);
+                merged = true;
+            }
+        }
+        if (withExceptionMessages) {
+            for (var exceptionMessage : other.exceptionMessages) {
+                addExceptionMessage(exceptionMessage);
+                merged = true;
+            }
+            other.warningMessages.forEach(this::addWarningMessage);
+        }
+        return merged;
     }
 }
 
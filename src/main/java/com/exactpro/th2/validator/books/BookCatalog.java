@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.books;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Source of the keyspaces and books which schemas may reference.
+ */
+public interface BookCatalog {
+
+    CompletableFuture<Boolean> keyspaceExists(String keyspace);
+
+    CompletableFuture<Boolean> bookExists(String keyspace, String bookName);
+
+    /**
+     * @return names of all books of the keyspace, empty if the keyspace doesn't exist
+     */
+    CompletableFuture<Set<String>> getBooks(String keyspace);
+
+    /**
+     * @return true if the catalog can't be queried right now and the lookups would fail
+     */
+    default boolean isUnavailable() {
+        return false;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.books;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Results of keyspace and book lookups in the storage service, kept for the given time.
+ * Positive and negative results have separate time to live, failed lookups are not kept.
+ * Concurrent lookups of the same key share one request, which is started outside of the cache lock.
+ * The same instance is meant to be shared by all validations in the process.
+ */
+public final class BookLookupCache {
+
+    private final long positiveTtlNanos;
+
+    private final long negativeTtlNanos;
+
+    private final int maxSize;
+
+    private final LongSupplier clock;
+
+    private final Map<List<String>, Lookup> entries;
+
+    public BookLookupCache(Duration positiveTtl, Duration negativeTtl, int maxSize) {
+        this(positiveTtl, negativeTtl, maxSize, System::nanoTime);
+    }
+
+    BookLookupCache(Duration positiveTtl, Duration negativeTtl, int maxSize, LongSupplier clock) {
+        if (positiveTtl.isNegative() || negativeTtl.isNegative()) {
+            throw new IllegalArgumentException("Time to live must not be negative");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.positiveTtlNanos = positiveTtl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.maxSize = maxSize;
+        this.clock = clock;
+        // access order makes the least recently used entry the eldest one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, Lookup> eldest) {
+                return size() > BookLookupCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * removes all kept results
+     */
+    public void invalidate() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * removes all kept results of the keyspace and its books
+     */
+    public void invalidate(String keyspace) {
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> Objects.equals(key.get(1), keyspace));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> get(String storageServiceBaseUrl,
+                                 String keyspace,
+                                 String lookup,
+                                 Supplier<CompletableFuture<T>> loader,
+                                 Predicate<T> isPositive) {
+        // settings may have no keyspace, it's then reported as missing one
+        List<String> key = Arrays.asList(storageServiceBaseUrl, keyspace, lookup);
+        Lookup loaded;
+        synchronized (entries) {
+            Lookup entry = entries.get(key);
+            if (entry != null && (!entry.completed || clock.getAsLong() - entry.expiresAt < 0)) {
+                return (CompletableFuture<T>) entry.future;
+            }
+            // other lookups of the key wait for the placeholder while the loader runs without the lock
+            loaded = new Lookup(new CompletableFuture<>());
+            entries.put(key, loaded);
+        }
+
+        loaded.future.whenComplete((result, error) -> {
+            synchronized (entries) {
+                if (error != null) {
+                    entries.remove(key, loaded);
+                } else {
+                    long ttl = isPositive.test((T) result) ? positiveTtlNanos : negativeTtlNanos;
+                    loaded.expiresAt = clock.getAsLong() + ttl;
+                    loaded.completed = true;
+                }
+            }
+        });
+        try {
+            loader.get().whenComplete((result, error) -> {
+                if (error != null) {
+                    loaded.future.completeExceptionally(error);
+                } else {
+                    loaded.future.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            loaded.future.completeExceptionally(e);
+        }
+        return (CompletableFuture<T>) loaded.future;
+    }
+
+    private static final class Lookup {
+
+        private final CompletableFuture<Object> future;
+
+        // lookup which is still in progress never expires
+        private boolean completed;
+
+        private long expiresAt;
+
+        private Lookup(CompletableFuture<Object> future) {
+            this.future = future;
+        }
+    }
+}
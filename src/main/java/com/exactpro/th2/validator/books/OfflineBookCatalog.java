@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.books;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static com.exactpro.th2.validator.util.MapperUtils.YAML_MAPPER;
+
+/**
+ * Keyspaces and their books loaded from a file, for validation without the storage service.
+ * The file lists books of every keyspace:
+ * <pre>
+ * keyspaces:
+ *   schema_keyspace:
+ *     - demo_book
+ * </pre>
+ */
+public final class OfflineBookCatalog implements BookCatalog {
+
+    private final Map<String, Set<String>> keyspaces;
+
+    public OfflineBookCatalog(Map<String, ? extends Collection<String>> keyspaces) {
+        Map<String, Set<String>> copy = new HashMap<>();
+        keyspaces.forEach((keyspace, books) -> copy.put(keyspace, books == null ? Set.of() : Set.copyOf(books)));
+        this.keyspaces = Map.copyOf(copy);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static OfflineBookCatalog load(Path path) throws IOException {
+        Map<String, Object> content = YAML_MAPPER.readValue(path.toFile(), Map.class);
+        Map<String, List<String>> keyspaces = YAML_MAPPER.convertValue(
+                content == null ? null : content.get("keyspaces"),
+                new TypeReference<Map<String, List<String>>>() {
+                }
+        );
+        return new OfflineBookCatalog(keyspaces == null ? Map.of() : keyspaces);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> keyspaceExists(String keyspace) {
+        return CompletableFuture.completedFuture(keyspaces.containsKey(keyspace));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> bookExists(String keyspace, String bookName) {
+        return CompletableFuture.completedFuture(keyspaces.getOrDefault(keyspace, Set.of()).contains(bookName));
+    }
+
+    @Override
+    public CompletableFuture<Set<String>> getBooks(String keyspace) {
+        return CompletableFuture.completedFuture(keyspaces.getOrDefault(keyspace, Set.of()));
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.books;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.exactpro.th2.validator.util.MapperUtils.MAPPER;
+
+/**
+ * Client of the storage service used to check keyspaces and books.
+ * All instances with the same connect timeout share one {@link HttpClient},
+ * so connections are kept alive between validations.
+ * Every instance has at most {@link StorageServiceSettings#getMaxConcurrentRequests()} requests in flight,
+ * the rest are queued without blocking the calling thread.
+ */
+public class StorageServiceClient implements BookCatalog {
+
+    private static final Map<Duration, HttpClient> HTTP_CLIENTS = new ConcurrentHashMap<>();
+
+    private final String storageServiceBaseUrl;
+
+    private final StorageServiceSettings settings;
+
+    private final HttpClient httpClient;
+
+    private final BookLookupCache lookupCache;
+
+    private final Semaphore requestPermits;
+
+    private final Queue<Runnable> pendingRequests = new ConcurrentLinkedQueue<>();
+
+    public StorageServiceClient(String storageServiceBaseUrl) {
+        this(storageServiceBaseUrl, StorageServiceSettings.DEFAULT, null);
+    }
+
+    /**
+     * @param lookupCache cache of lookup results, or null if every lookup is sent to the storage service
+     */
+    public StorageServiceClient(String storageServiceBaseUrl,
+                                StorageServiceSettings settings,
+                                BookLookupCache lookupCache) {
+        this.storageServiceBaseUrl = storageServiceBaseUrl;
+        this.settings = settings;
+        this.httpClient = HTTP_CLIENTS.computeIfAbsent(settings.getConnectTimeout(), timeout -> HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build());
+        this.lookupCache = lookupCache;
+        this.requestPermits = new Semaphore(settings.getMaxConcurrentRequests());
+    }
+
+    /**
+     * @return true if requests are rejected by the circuit breaker
+     */
+    @Override
+    public boolean isUnavailable() {
+        CircuitBreaker circuitBreaker = settings.getCircuitBreaker();
+        return circuitBreaker != null && circuitBreaker.isOpen();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> keyspaceExists(String keyspace) {
+        return cached(keyspace, "keyspace", () -> exists(String.format("http://%s/api/%s",
+                storageServiceBaseUrl, encode(keyspace))), Boolean::booleanValue);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> bookExists(String keyspace, String bookName) {
+        return cached(keyspace, "book/" + bookName, () -> exists(String.format("http://%s/api/%s/books/%s",
+                storageServiceBaseUrl, encode(keyspace), encode(bookName))), Boolean::booleanValue);
+    }
+
+    @Override
+    public CompletableFuture<Set<String>> getBooks(String keyspace) {
+        return cached(keyspace, "books", () -> fetchBooks(keyspace), books -> !books.isEmpty());
+    }
+
+    private <T> CompletableFuture<T> cached(String keyspace,
+                                            String lookup,
+                                            Supplier<CompletableFuture<T>> loader,
+                                            Predicate<T> isPositive) {
+        if (lookupCache == null) {
+            return loader.get();
+        }
+        return lookupCache.get(storageServiceBaseUrl, keyspace, lookup, loader, isPositive);
+    }
+
+    private CompletableFuture<Set<String>> fetchBooks(String keyspace) {
+        String url = String.format("http://%s/api/%s/books", storageServiceBaseUrl, encode(keyspace));
+        return send(url, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    if (response.statusCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+                        return Collections.<String>emptySet();
+                    }
+                    if (response.statusCode() != HttpURLConnection.HTTP_OK) {
+                        throw new CompletionException(unexpectedResponse(url, response));
+                    }
+                    try {
+                        return parseBookNames(response.body());
+                    } catch (JsonProcessingException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+
+    /**
+     * accepts both an array of names and an array of objects with the "name" field
+     */
+    static Set<String> parseBookNames(String body) throws JsonProcessingException {
+        JsonNode books = MAPPER.readTree(body);
+        if (!books.isArray()) {
+            throw new IllegalArgumentException("Expected array of books, but got: " + books.getNodeType());
+        }
+        Set<String> bookNames = new HashSet<>();
+        for (JsonNode book : books) {
+            JsonNode name = book.isObject() ? book.get("name") : book;
+            if (name != null && name.isTextual()) {
+                bookNames.add(name.asText());
+            }
+        }
+        return Collections.unmodifiableSet(bookNames);
+    }
+
+    private CompletableFuture<Boolean> exists(String url) {
+        return send(url, HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> {
+                    if (isServerError(response)) {
+                        throw new CompletionException(unexpectedResponse(url, response));
+                    }
+                    return response.statusCode() == HttpURLConnection.HTTP_OK;
+                });
+    }
+
+    /**
+     * sends the request and repeats it after connection errors, timeouts and server errors
+     */
+    private <T> CompletableFuture<HttpResponse<T>> send(String url, HttpResponse.BodyHandler<T> bodyHandler) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(settings.getRequestTimeout())
+                    .GET()
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new IOException("Invalid storage service url " + url, e));
+        }
+        return send(request, bodyHandler, 0);
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request,
+                                                        HttpResponse.BodyHandler<T> bodyHandler,
+                                                        int attempt) {
+        CircuitBreaker circuitBreaker = settings.getCircuitBreaker();
+        if (circuitBreaker != null && !circuitBreaker.allowRequest()) {
+            return CompletableFuture.failedFuture(new StorageServiceUnavailableException(String.format(
+                    "Requests to the storage service \"%s\" are stopped after repeated failures",
+                    storageServiceBaseUrl)));
+        }
+        return limited(() -> httpClient.sendAsync(request, bodyHandler))
+                .handle((response, error) -> {
+                    boolean failed = error != null || isServerError(response);
+                    if (circuitBreaker != null) {
+                        if (failed) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            circuitBreaker.onSuccess();
+                        }
+                    }
+                    if (!failed || attempt >= settings.getMaxRetries()) {
+                        return error != null
+                                ? CompletableFuture.<HttpResponse<T>>failedFuture(error)
+                                : CompletableFuture.completedFuture(response);
+                    }
+                    return CompletableFuture.supplyAsync(() -> null,
+                                    CompletableFuture.delayedExecutor(backoff(attempt), TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> send(request, bodyHandler, attempt + 1));
+                })
+                .thenCompose(Function.identity());
+    }
+
+    /**
+     * starts the request when a permit is available, permits are not held during retry backoffs
+     */
+    private <T> CompletableFuture<T> limited(Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        pendingRequests.add(() -> {
+            CompletableFuture<T> sent;
+            try {
+                sent = request.get();
+            } catch (RuntimeException e) {
+                sent = CompletableFuture.failedFuture(e);
+            }
+            sent.whenComplete((value, error) -> {
+                requestPermits.release();
+                startPendingRequests();
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        });
+        startPendingRequests();
+        return result;
+    }
+
+    private void startPendingRequests() {
+        while (!pendingRequests.isEmpty() && requestPermits.tryAcquire()) {
+            Runnable request = pendingRequests.poll();
+            if (request == null) {
+                // taken by other thread, the queue is checked again after the release
+                requestPermits.release();
+                continue;
+            }
+            request.run();
+        }
+    }
+
+    private static String encode(String pathSegment) {
+        return URLEncoder.encode(String.valueOf(pathSegment), StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    /**
+     * random delay between zero and the doubled backoff of the previous attempt
+     */
+    private long backoff(int attempt) {
+        long bound = settings.getRetryBackoff().toMillis() << Math.min(attempt, 16);
+        return bound > 0 ? ThreadLocalRandom.current().nextLong(bound + 1) : 0;
+    }
+
+    private static boolean isServerError(HttpResponse<?> response) {
+        return response.statusCode() >= HttpURLConnection.HTTP_INTERNAL_ERROR;
+    }
+
+    private static IOException unexpectedResponse(String url, HttpResponse<?> response) {
+        return new IOException(String.format("Unexpected response code %d of %s", response.statusCode(), url));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.books;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Timeouts, retries, concurrency and the circuit breaker of the requests to the storage service.
+ */
+public final class StorageServiceSettings {
+
+    public static final StorageServiceSettings DEFAULT = new Builder().build();
+
+    private Duration connectTimeout;
+
+    private Duration requestTimeout;
+
+    private int maxRetries;
+
+    private Duration retryBackoff;
+
+    private int maxConcurrentRequests;
+
+    private CircuitBreaker circuitBreaker;
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * @return number of times a request is repeated after a connection error, timeout or server error
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @return upper bound of the random delay before the first retry, doubled for every next one
+     */
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    /**
+     * @return max number of requests a client has in flight, the rest wait in a queue
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * @return circuit breaker shared between validation runs, or null if requests are always sent
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public static class Builder {
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        private Duration requestTimeout = Duration.ofSeconds(10);
+
+        private int maxRetries = 2;
+
+        private Duration retryBackoff = Duration.ofMillis(200);
+
+        private int maxConcurrentRequests = 16;
+
+        private CircuitBreaker circuitBreaker;
+
+        public Builder setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = requirePositive(connectTimeout, "connectTimeout");
+            return this;
+        }
+
+        public Builder setRequestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requirePositive(requestTimeout, "requestTimeout");
+            return this;
+        }
+
+        public Builder setMaxRetries(int maxRetries) {
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException("maxRetries must not be negative: " + maxRetries);
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public Builder setRetryBackoff(Duration retryBackoff) {
+            Objects.requireNonNull(retryBackoff, "retryBackoff");
+            if (retryBackoff.isNegative()) {
+                throw new IllegalArgumentException("retryBackoff must not be negative: " + retryBackoff);
+            }
+            this.retryBackoff = retryBackoff;
+            return this;
+        }
+
+        public Builder setMaxConcurrentRequests(int maxConcurrentRequests) {
+            if (maxConcurrentRequests <= 0) {
+                throw new IllegalArgumentException("maxConcurrentRequests must be positive: " + maxConcurrentRequests);
+            }
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        public Builder setCircuitBreaker(CircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        public StorageServiceSettings build() {
+
+            StorageServiceSettings settings = new StorageServiceSettings();
+            settings.connectTimeout = connectTimeout;
+            settings.requestTimeout = requestTimeout;
+            settings.maxRetries = maxRetries;
+            settings.retryBackoff = retryBackoff;
+            settings.maxConcurrentRequests = maxConcurrentRequests;
+            settings.circuitBreaker = circuitBreaker;
+            return settings;
+        }
+
+        private static Duration requirePositive(Duration duration, String name) {
+            Objects.requireNonNull(duration, name);
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive: " + duration);
+            }
+            return duration;
+        }
+    }
+}
@@ -18,9 +18,13 @@ package com.exactpro.th2.validator.boxes;
 
 import com.exactpro.th2.infrarepo.repo.RepositoryResource;
 import com.exactpro.th2.validator.SchemaValidationContext;
+import com.exactpro.th2.validator.secrets.KubernetesSecretsSource;
+import com.exactpro.th2.validator.secrets.SecretsSource;
+import com.exactpro.th2.validator.util.CustomConfigReferences;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 public final class BoxesValidator {
     private final SchemaValidationContext validationContext;
@@ -38,8 +42,45 @@ public final class BoxesValidator {
         urlPathsValidator.detectUrlPathsConflicts();
     }
 
+    /**
+     * @return url paths of the boxes, which are also recorded in the validation context
+     */
+    public Map<String, Set<String>> collectUrlPaths() {
+        return new UrlPathsValidator(validationContext, boxesMap).collectUrlPaths();
+    }
+
+    /**
+     * detects conflicts of url paths which were already collected, e.g. by previous validation,
+     * without reading the specs of the boxes
+     */
+    public void detectUrlPathsConflicts(Map<String, Set<String>> urlPaths) {
+        new UrlPathsValidator(validationContext, boxesMap).detectUrlPathsConflicts(urlPaths);
+    }
+
     public void validateSecrets(String namespace) {
-        var secretsValidator = new SecretsValidator(validationContext, namespace, boxesMap.values());
+        validateSecrets(namespace, null);
+    }
+
+    /**
+     * @param secretsSource source of the secrets, or null to use the shared source backed by Kubernetes
+     */
+    public void validateSecrets(String namespace, SecretsSource secretsSource) {
+        validateSecrets(namespace, secretsSource, CustomConfigReferences.index(boxesMap));
+    }
+
+    /**
+     * @param references custom config references of the boxes which were already collected in this run
+     */
+    public void validateSecrets(String namespace,
+                                SecretsSource secretsSource,
+                                Map<String, CustomConfigReferences> references) {
+        var secretsValidator = new SecretsValidator(
+                validationContext,
+                namespace,
+                boxesMap.values(),
+                secretsSource != null ? secretsSource : KubernetesSecretsSource.shared(),
+                references
+        );
         secretsValidator.validate();
     }
 }
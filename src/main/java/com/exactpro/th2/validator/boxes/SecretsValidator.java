@@ -19,16 +19,13 @@ package com.exactpro.th2.validator.boxes;
 import com.exactpro.th2.infrarepo.repo.RepositoryResource;
 import com.exactpro.th2.validator.SchemaValidationContext;
 import com.exactpro.th2.validator.errormessages.BoxResourceErrorMessage;
-import com.exactpro.th2.validator.util.SecretsUtils;
-import io.fabric8.kubernetes.api.model.Secret;
+import com.exactpro.th2.validator.secrets.SecretsSource;
+import com.exactpro.th2.validator.util.CustomConfigReferences;
 
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
-import static com.exactpro.th2.validator.util.SecretsUtils.extractCustomConfig;
-import static com.exactpro.th2.validator.util.SecretsUtils.generateSecretsConfig;
-
 class SecretsValidator {
     private final String namespace;
 
@@ -36,35 +33,45 @@ class SecretsValidator {
 
     private final Collection<RepositoryResource> allBoxes;
 
+    private final SecretsSource secretsSource;
+
+    private final Map<String, CustomConfigReferences> references;
+
     SecretsValidator(
             SchemaValidationContext validationContext,
             String namespace,
-            Collection<RepositoryResource> allBoxes
+            Collection<RepositoryResource> allBoxes,
+            SecretsSource secretsSource,
+            Map<String, CustomConfigReferences> references
     ) {
         this.namespace = namespace;
         this.validationContext = validationContext;
         this.allBoxes = allBoxes;
+        this.secretsSource = secretsSource;
+        this.references = references;
     }
 
     void validate() {
-        if (SecretsUtils.namespaceNotPresent(namespace)) {
+        if (!secretsSource.namespaceExists(namespace)) {
             return;
         }
-        Secret secret = SecretsUtils.getCustomSecret(namespace);
-        if (secret == null) {
+        Set<String> secretKeys = secretsSource.getCustomSecretKeys(namespace);
+        if (secretKeys == null) {
             String errorMessage = String.format("Secret \"secret-custom-config\" is not present in namespace: \"%s\"",
                     namespace);
             validationContext.addExceptionMessage(errorMessage);
             return;
         }
-        Map<String, String> secretData = secret.getData();
         for (var res : allBoxes) {
-            Map<String, Object> customConfig = extractCustomConfig(res);
-            Set<String> secretsConfig = generateSecretsConfig(customConfig);
+            if (validationContext.isAborted()) {
+                return;
+            }
+            String resName = res.getMetadata().getName();
+            Set<String> secretsConfig = references.getOrDefault(resName, CustomConfigReferences.EMPTY)
+                    .getSecretKeys();
             if (!secretsConfig.isEmpty()) {
                 for (String secretKey : secretsConfig) {
-                    if (secretData == null || !secretData.containsKey(secretKey)) {
-                        String resName = res.getMetadata().getName();
+                    if (!secretKeys.contains(secretKey)) {
                         String errorMessage = String.format("Value \"%s\" from " +
                                 "\"secret-custom-config\" is not present in Kubernetes", secretKey);
                         validationContext.setInvalidResource(resName);
@@ -19,6 +19,7 @@ package com.exactpro.th2.validator.boxes;
 import com.exactpro.th2.infrarepo.repo.RepositoryResource;
 import com.exactpro.th2.validator.SchemaValidationContext;
 import com.exactpro.th2.validator.errormessages.BoxResourceErrorMessage;
+import com.exactpro.th2.validator.util.UrlPathTrie;
 
 import java.util.*;
 
@@ -40,49 +41,94 @@ class UrlPathsValidator {
     }
 
     void detectUrlPathsConflicts() {
-        Map<String, Set<String>> repositoryUrlPaths = getRepositoryUrlPaths();
+        detectUrlPathsConflicts(collectUrlPaths());
+    }
+
+    /**
+     * @param repositoryUrlPaths url paths by resources, which were already collected from the specs
+     */
+    void detectUrlPathsConflicts(Map<String, Set<String>> repositoryUrlPaths) {
         // if no resource or just one resource contains url paths then there can't be conflicts
         if (repositoryUrlPaths.size() < 2) {
             return;
         }
 
-        Set<String> resourceNames = new HashSet<>();
-
-        for (var entry1 : repositoryUrlPaths.entrySet()) {
-            resourceNames.add(entry1.getKey());
-            final Set<String> urls = Collections.unmodifiableSet(entry1.getValue());
-
-            for (var entry2 : repositoryUrlPaths.entrySet()) {
-                // avoid comparing resource with itself and comparing the same resources twice
-                if (resourceNames.contains(entry2.getKey())) {
-                    continue;
+        // url path -> resources which contain it, in the order the resources were visited
+        Map<String, List<String>> urlPathOwners = new HashMap<>();
+        // resource -> later visited resource -> url paths conflicting between them
+        Map<String, Map<String, List<String>>> conflicts = new HashMap<>();
+
+        for (var entry : repositoryUrlPaths.entrySet()) {
+            String resourceName = entry.getKey();
+            for (String url : entry.getValue()) {
+                List<String> owners = urlPathOwners.computeIfAbsent(url, key -> new ArrayList<>(1));
+                for (String owner : owners) {
+                    conflicts.computeIfAbsent(owner, key -> new LinkedHashMap<>())
+                            .computeIfAbsent(resourceName, key -> new ArrayList<>())
+                            .add(url);
                 }
+                owners.add(resourceName);
+            }
+        }
 
-                List<String> duplicated = new ArrayList<>();
+        for (String resourceName : repositoryUrlPaths.keySet()) {
+            if (validationContext.isAborted()) {
+                return;
+            }
+            Map<String, List<String>> resourceConflicts = conflicts.get(resourceName);
+            if (resourceConflicts == null) {
+                continue;
+            }
+            for (var conflict : resourceConflicts.entrySet()) {
+                String message = String.format("Conflict of url paths %s with resource \"%s\"",
+                        conflict.getValue(), conflict.getKey());
+                validationContext.setInvalidResource(resourceName);
+                validationContext.addBoxResourceErrorMessages(
+                        new BoxResourceErrorMessage(
+                                resourceName,
+                                message
+                        )
+                );
+            }
+        }
 
-                for (String url : entry2.getValue()) {
-                    if (urls.contains(url)) {
-                        duplicated.add(url);
-                    }
-                }
+        detectUrlPathsOverlaps(repositoryUrlPaths);
+    }
 
-                if (!duplicated.isEmpty()) {
-                    String message = String.format("Conflict of url paths %s with resource \"%s\"",
-                            duplicated, entry2.getKey());
-                    validationContext.setInvalidResource(entry1.getKey());
-                    validationContext.addBoxResourceErrorMessages(
-                            new BoxResourceErrorMessage(
-                                    entry1.getKey(),
-                                    message
-                            )
-                    );
-                }
-            }
+    /**
+     * Different strings of the same path (e.g. "/a" and "a/") are conflicts as well as equal strings.
+     * Ingress routes requests by the longest matching prefix, so a path nested into the path of another resource
+     * is served correctly, but may be routed unexpectedly if the nested path is removed. Such paths are reported
+     * as warnings.
+     */
+    private void detectUrlPathsOverlaps(Map<String, Set<String>> repositoryUrlPaths) {
+        var urlPathTrie = new UrlPathTrie();
+        repositoryUrlPaths.forEach((resourceName, urls) -> urls.forEach(url -> urlPathTrie.add(url, resourceName)));
+
+        for (var conflict : urlPathTrie.findConflicts()) {
+            String message = String.format("Url path \"%s\" conflicts with url path \"%s\" of resource \"%s\"",
+                    conflict.getUrlPath(), conflict.getOtherUrlPath(), conflict.getOtherOwner());
+            validationContext.setInvalidResource(conflict.getOwner());
+            validationContext.addBoxResourceErrorMessages(
+                    new BoxResourceErrorMessage(
+                            conflict.getOwner(),
+                            message
+                    )
+            );
+        }
+
+        for (var overlap : urlPathTrie.findOverlaps()) {
+            validationContext.addWarningMessage(String.format(
+                    "Url path \"%s\" of resource \"%s\" is nested into url path \"%s\" of resource \"%s\"",
+                    overlap.getUrlPath(), overlap.getOwner(), overlap.getOtherUrlPath(), overlap.getOtherOwner()));
         }
     }
 
+    /**
+     * collects url paths of the resources and reports duplicated paths of the same resource
+     */
     @SuppressWarnings("unchecked")
-    private Map<String, Set<String>> getRepositoryUrlPaths() {
+    Map<String, Set<String>> collectUrlPaths() {
         Map<String, Set<String>> resToUrlPaths = new HashMap<>();
         for (RepositoryResource resource : boxesMap.values()) {
 
@@ -98,6 +144,7 @@ class UrlPathsValidator {
                 allPaths.addAll(collectSectionPaths(resourceName, getSectionArray(service, "loadBalancer")));
 
                 resToUrlPaths.put(resourceName, allPaths);
+                validationContext.setUrlPaths(resourceName, allPaths);
 
             } catch (ClassCastException e) {
                 String message = String.format("Exception extracting urlPaths property. exception: %s", e.getMessage());
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.cache;
+
+import java.util.Objects;
+
+/**
+ * Result of the validation of both ends of a link.
+ * Message of an end is null if that end is valid.
+ */
+public final class LinkOutcome {
+
+    private final String fromMessage;
+
+    private final String toMessage;
+
+    public LinkOutcome(String fromMessage, String toMessage) {
+        this.fromMessage = fromMessage;
+        this.toMessage = toMessage;
+    }
+
+    public String getFromMessage() {
+        return fromMessage;
+    }
+
+    public String getToMessage() {
+        return toMessage;
+    }
+
+    public boolean isValid() {
+        return fromMessage == null && toMessage == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LinkOutcome that = (LinkOutcome) o;
+        return Objects.equals(fromMessage, that.fromMessage) && Objects.equals(toMessage, that.toMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fromMessage, toMessage);
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * {@link ValidationCache} backed by a memory-mapped file, so cached outcomes survive restarts.
+ * <p>
+ * The file consists of a header and a fixed number of fixed-size slots, one entry per slot.
+ * When all slots are used, an entry is evicted by the CLOCK algorithm (an approximation of LRU):
+ * a hand goes around the slots and evicts the first entry which wasn't read since the hand passed it last time.
+ * Each slot keeps the time of the last access, which is used to place the hand on open.
+ * Outcomes whose messages don't fit into a slot are not cached.
+ * <p>
+ * Lookups don't take the cache-wide lock: a slot is read under one of {@link #LOCK_STRIPES} locks
+ * and its access time is updated in memory only. Access times are written to the file
+ * when the slot is overwritten and on {@link #close()}.
+ * <p>
+ * The file is reset when it was written by other version of the validator,
+ * since outcomes of the checks may differ between versions.
+ */
+public final class MappedValidationCache implements ValidationCache, Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(MappedValidationCache.class);
+
+    /**
+     * must be increased whenever link checks or their messages change
+     */
+    static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x74683276;
+
+    private static final int HEADER_SIZE = 32;
+
+    private static final int CLOCK_OFFSET = 16;
+
+    static final int SLOT_SIZE = 512;
+
+    private static final int KEY_SIZE = 32;
+
+    private static final byte EMPTY = 0;
+
+    private static final byte USED = 1;
+
+    private static final int TICK_OFFSET = 1;
+
+    private static final int KEY_OFFSET = TICK_OFFSET + Long.BYTES;
+
+    private static final int PAYLOAD_OFFSET = KEY_OFFSET + KEY_SIZE;
+
+    private static final int NULL_MESSAGE = -1;
+
+    static final int LOCK_STRIPES = 64;
+
+    /**
+     * whole file is mapped as a single buffer
+     */
+    public static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_SIZE) / SLOT_SIZE;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer buffer;
+
+    private final int capacity;
+
+    private final Map<String, Integer> slots;
+
+    /**
+     * keys of the slots, guarded by the lock of the slot
+     */
+    private final String[] slotKeys;
+
+    /**
+     * last access times of the slots, may be ahead of the ones in the file
+     */
+    private final AtomicLongArray ticks;
+
+    private final Object[] slotLocks = new Object[LOCK_STRIPES];
+
+    /**
+     * guarded by the cache-wide lock
+     */
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    /**
+     * access times of the slots when the hand passed them, guarded by the cache-wide lock
+     */
+    private final long[] handTicks;
+
+    /**
+     * next slot to be checked for eviction, guarded by the cache-wide lock
+     */
+    private int hand;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private MappedValidationCache(FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.slots = new ConcurrentHashMap<>(capacity * 4 / 3 + 1);
+        this.slotKeys = new String[capacity];
+        this.ticks = new AtomicLongArray(capacity);
+        this.handTicks = new long[capacity];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            slotLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * Opens the cache file or creates it if it doesn't exist.
+     *
+     * @param capacity max number of cached outcomes
+     */
+    public static MappedValidationCache open(Path file, int capacity) throws IOException {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(String.format(
+                    "Capacity of the cache must be in range [1, %d]: %d", MAX_CAPACITY, capacity));
+        }
+        long size = HEADER_SIZE + (long) capacity * SLOT_SIZE;
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean compatible = channel.size() == size;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            compatible = compatible
+                    && buffer.getInt(0) == MAGIC
+                    && buffer.getInt(4) == FORMAT_VERSION
+                    && buffer.getInt(8) == capacity
+                    && buffer.getInt(12) == SLOT_SIZE;
+            var cache = new MappedValidationCache(channel, buffer, capacity);
+            if (compatible) {
+                cache.load();
+            } else {
+                logger.info("Validation cache file \"{}\" is missing or incompatible, creating new one", file);
+                cache.reset();
+            }
+            return cache;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public LinkOutcome getLinkOutcome(String key) {
+        Integer slot = slots.get(key);
+        if (slot == null) {
+            return null;
+        }
+        synchronized (lockOf(slot)) {
+            // the slot may have been given to other key since it was looked up
+            if (!key.equals(slotKeys[slot])) {
+                return null;
+            }
+            ticks.set(slot, nextTick());
+            int position = slotOffset(slot) + PAYLOAD_OFFSET;
+            String fromMessage = readMessage(position);
+            position += Short.BYTES + Math.max(buffer.getShort(position), 0);
+            String toMessage = readMessage(position);
+            return new LinkOutcome(fromMessage, toMessage);
+        }
+    }
+
+    @Override
+    public synchronized void putLinkOutcome(String key, LinkOutcome outcome) {
+        byte[] from = encode(outcome.getFromMessage());
+        byte[] to = encode(outcome.getToMessage());
+        int payloadSize = 2 * Short.BYTES + length(from) + length(to);
+        if (PAYLOAD_OFFSET + payloadSize > SLOT_SIZE) {
+            return;
+        }
+        byte[] keyBytes = decodeKey(key);
+        Integer slot = slots.get(key);
+        if (slot == null) {
+            slot = freeSlots.poll();
+        }
+        if (slot == null) {
+            slot = nextVictim();
+        }
+        synchronized (lockOf(slot)) {
+            if (slotKeys[slot] != null && !slotKeys[slot].equals(key)) {
+                slots.remove(slotKeys[slot]);
+            }
+            int offset = slotOffset(slot);
+            // the slot is marked as used only after it's completely written
+            buffer.put(offset, EMPTY);
+            long tick = nextTick();
+            ticks.set(slot, tick);
+            // new entry isn't read yet, it's evicted when the hand reaches it unless it's read before
+            handTicks[slot] = tick;
+            buffer.putLong(offset + TICK_OFFSET, tick);
+            for (int i = 0; i < KEY_SIZE; i++) {
+                buffer.put(offset + KEY_OFFSET + i, keyBytes[i]);
+            }
+            int position = writeMessage(offset + PAYLOAD_OFFSET, from);
+            writeMessage(position, to);
+            buffer.put(offset, USED);
+            slotKeys[slot] = key;
+        }
+        slots.put(key, slot);
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Flushes cached outcomes to the file and closes it.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        for (int slot = 0; slot < capacity; slot++) {
+            synchronized (lockOf(slot)) {
+                if (slotKeys[slot] != null) {
+                    buffer.putLong(slotOffset(slot) + TICK_OFFSET, ticks.get(slot));
+                }
+            }
+        }
+        buffer.putLong(CLOCK_OFFSET, clock.get());
+        buffer.force();
+        channel.close();
+    }
+
+    private void load() {
+        long maxTick = buffer.getLong(CLOCK_OFFSET);
+        for (int slot = 0; slot < capacity; slot++) {
+            int offset = slotOffset(slot);
+            if (buffer.get(offset) == USED) {
+                long tick = buffer.getLong(offset + TICK_OFFSET);
+                String key = readKey(offset);
+                ticks.set(slot, tick);
+                slotKeys[slot] = key;
+                slots.put(key, slot);
+                maxTick = Math.max(maxTick, tick);
+            } else {
+                freeSlots.add(slot);
+            }
+        }
+        clock.set(maxTick);
+        restoreHand();
+    }
+
+    /**
+     * Places the hand at the least recently used entry and gives a chance
+     * to the more recently used half of the entries, so the eviction order is close to the one before restart.
+     */
+    private void restoreHand() {
+        long[] usedTicks = new long[slots.size()];
+        int used = 0;
+        int oldest = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (slotKeys[slot] != null) {
+                usedTicks[used++] = ticks.get(slot);
+                if (slotKeys[oldest] == null || ticks.get(slot) < ticks.get(oldest)) {
+                    oldest = slot;
+                }
+            }
+        }
+        Arrays.sort(usedTicks);
+        long median = used > 0 ? usedTicks[used / 2] : 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            long tick = ticks.get(slot);
+            handTicks[slot] = tick >= median && tick > 0 ? tick - 1 : tick;
+        }
+        hand = oldest;
+    }
+
+    private void reset() {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, FORMAT_VERSION);
+        buffer.putInt(8, capacity);
+        buffer.putInt(12, SLOT_SIZE);
+        buffer.putLong(CLOCK_OFFSET, 0);
+        for (int slot = 0; slot < capacity; slot++) {
+            buffer.put(slotOffset(slot), EMPTY);
+            freeSlots.add(slot);
+        }
+        clock.set(0);
+    }
+
+    /**
+     * Gives a second chance to the slots which were read since the hand passed them.
+     * Amortized O(1), since every slot that's passed over loses its chance.
+     */
+    private int nextVictim() {
+        // concurrent reads may give chances again, so the hand stops after two rounds
+        for (int step = 0; step < 2 * capacity; step++) {
+            int slot = hand;
+            hand = (hand + 1) % capacity;
+            long tick = ticks.get(slot);
+            if (tick == handTicks[slot]) {
+                return slot;
+            }
+            handTicks[slot] = tick;
+        }
+        int slot = hand;
+        hand = (hand + 1) % capacity;
+        return slot;
+    }
+
+    private Object lockOf(int slot) {
+        return slotLocks[slot % LOCK_STRIPES];
+    }
+
+    private long nextTick() {
+        return clock.incrementAndGet();
+    }
+
+    private static int slotOffset(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private String readKey(int offset) {
+        var sb = new StringBuilder(KEY_SIZE * 2);
+        for (int i = 0; i < KEY_SIZE; i++) {
+            int b = buffer.get(offset + KEY_OFFSET + i) & 0xff;
+            sb.append(Character.forDigit(b >>> 4, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return sb.toString();
+    }
+
+    private static byte[] decodeKey(String key) {
+        if (key.length() != KEY_SIZE * 2) {
+            throw new IllegalArgumentException("Cache key must be a hex encoded SHA-256 digest: " + key);
+        }
+        byte[] bytes = new byte[KEY_SIZE];
+        for (int i = 0; i < KEY_SIZE; i++) {
+            bytes[i] = (byte) Integer.parseInt(key, 2 * i, 2 * i + 2, 16);
+        }
+        return bytes;
+    }
+
+    private String readMessage(int position) {
+        short length = buffer.getShort(position);
+        if (length == NULL_MESSAGE) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(position + Short.BYTES + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int writeMessage(int position, byte[] message) {
+        if (message == null) {
+            buffer.putShort(position, (short) NULL_MESSAGE);
+            return position + Short.BYTES;
+        }
+        buffer.putShort(position, (short) message.length);
+        for (int i = 0; i < message.length; i++) {
+            buffer.put(position + Short.BYTES + i, message[i]);
+        }
+        return position + Short.BYTES + message.length;
+    }
+
+    private static byte[] encode(String message) {
+        return message == null ? null : message.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.cache;
+
+/**
+ * Stores outcomes of checks which depend only on the sources of the resources involved,
+ * so they can be reused by later validation runs while those sources stay the same.
+ * Implementations must be safe to use from several threads.
+ */
+public interface ValidationCache {
+
+    /**
+     * @param key digest which identifies the link and the sources of both linked boxes
+     * @return cached outcome or null if the link wasn't validated with these sources yet
+     */
+    LinkOutcome getLinkOutcome(String key);
+
+    void putLinkOutcome(String key, LinkOutcome outcome);
+}
@@ -18,15 +18,29 @@ package com.exactpro.th2.validator.errormessages;
 
 public class LinkErrorMessage implements PrintableMessage {
 
+    private final String resourceName;
+
     private final String linkContent;
 
     private final String message;
 
     public LinkErrorMessage(String linkContent, String message) {
+        this(null, linkContent, message);
+    }
+
+    public LinkErrorMessage(String resourceName, String linkContent, String message) {
+        this.resourceName = resourceName;
         this.linkContent = linkContent;
         this.message = message;
     }
 
+    /**
+     * @return name of the resource which declares the link, or null if it's unknown
+     */
+    public String getResourceName() {
+        return resourceName;
+    }
+
     public String getLinkContent() {
         return linkContent;
     }
@@ -19,33 +19,77 @@ package com.exactpro.th2.validator.links;
 import com.exactpro.th2.infrarepo.repo.RepositoryResource;
 import com.exactpro.th2.validator.SchemaContext;
 import com.exactpro.th2.validator.SchemaValidationContext;
+import com.exactpro.th2.validator.cache.LinkOutcome;
+import com.exactpro.th2.validator.cache.ValidationCache;
+import com.exactpro.th2.validator.links.chain.Validator;
 import com.exactpro.th2.validator.model.BoxLinkContext;
 import com.exactpro.th2.validator.model.link.MessageLink;
+import com.exactpro.th2.validator.util.SourceHashUtil;
 
 import static com.exactpro.th2.validator.links.enums.ValidationStatus.VALID;
 import static java.lang.String.format;
 
+/**
+ * Validates both ends of links with validation chains which are built once and reused for all links.
+ */
 abstract class BoxesLinkValidator {
     SchemaContext schemaContext;
 
-    abstract void validateLink(MessageLink link);
+    private final BoxLinkContext fromContext;
+
+    private final Validator<Object, ValidationResult, MessageLink> fromChain;
 
-    abstract ValidationResult validateByContext(RepositoryResource resource, BoxLinkContext context);
+    private final Validator<Object, ValidationResult, MessageLink> toChain;
 
     abstract void addValidMessageLink(String linkResName, MessageLink link);
 
-    BoxesLinkValidator(SchemaContext schemaContext) {
+    BoxesLinkValidator(SchemaContext schemaContext,
+                       BoxLinkContext fromContext,
+                       Validator<Object, ValidationResult, MessageLink> fromChain,
+                       Validator<Object, ValidationResult, MessageLink> toChain) {
         this.schemaContext = schemaContext;
+        this.fromContext = fromContext;
+        this.fromChain = fromChain;
+        this.toChain = toChain;
     }
 
-    void validate(BoxLinkContext fromContext, BoxLinkContext toContext,
-                  String resName, MessageLink link) {
-        RepositoryResource fromRes = schemaContext.getBox(fromContext.getBoxName());
-        RepositoryResource toRes = schemaContext.getBox(toContext.getBoxName());
+    void validateLink(MessageLink link) {
+        String resName = link.getResourceName();
+        try {
+            validate(resName, link);
+        } catch (Exception e) {
+            var schemaValidationContext = schemaContext.getSchemaValidationContext();
+            schemaValidationContext.setInvalidResource(resName);
+            schemaValidationContext.addLinkErrorMessage(
+                    link.errorMessage(String.format("Exception: %s", e.getMessage()))
+            );
+        }
+    }
+
+    void validate(String resName, MessageLink link) {
+        RepositoryResource fromRes = schemaContext.getBox(link.getFromBox());
+        RepositoryResource toRes = schemaContext.getBox(link.getToBox());
         SchemaValidationContext schemaValidationContext = schemaContext.getSchemaValidationContext();
 
-        ValidationResult fromResValidationResult = validateByContext(fromRes, fromContext);
-        ValidationResult toResValidationResult = validateByContext(toRes, toContext);
+        ValidationCache cache = schemaContext.getValidationCache();
+        String cacheKey = cache != null ? cacheKey(link, fromRes, toRes) : null;
+        LinkOutcome cachedOutcome = cacheKey != null ? cache.getLinkOutcome(cacheKey) : null;
+
+        ValidationResult fromResValidationResult;
+        ValidationResult toResValidationResult;
+        if (cachedOutcome != null) {
+            fromResValidationResult = toValidationResult(cachedOutcome.getFromMessage());
+            toResValidationResult = toValidationResult(cachedOutcome.getToMessage());
+        } else {
+            fromResValidationResult = fromChain.validate(fromRes, link);
+            toResValidationResult = toChain.validate(toRes, link);
+            if (cacheKey != null) {
+                cache.putLinkOutcome(cacheKey, new LinkOutcome(
+                        fromResValidationResult.isInvalid() ? fromResValidationResult.getMessage() : null,
+                        toResValidationResult.isInvalid() ? toResValidationResult.getMessage() : null
+                ));
+            }
+        }
 
         if (fromResValidationResult.getValidationStatus().equals(VALID)
                 && toResValidationResult.getValidationStatus().equals(VALID)) {
@@ -66,4 +110,29 @@ abstract class BoxesLinkValidator {
             schemaValidationContext.addLinkErrorMessage(link.errorMessage(message));
         }
     }
+
+    private static ValidationResult toValidationResult(String message) {
+        return message == null ? ValidationResult.valid() : ValidationResult.invalid(message);
+    }
+
+    /**
+     * Outcome of the link depends only on the link itself and on the specs of both boxes,
+     * so the link is identified by its ends and the source hashes of the boxes.
+     *
+     * @return key of the link or null if outcome of the link can't be cached
+     */
+    private String cacheKey(MessageLink link, RepositoryResource fromRes, RepositoryResource toRes) {
+        if (fromRes == null || toRes == null || fromRes.getSourceHash() == null || toRes.getSourceHash() == null) {
+            return null;
+        }
+        return SourceHashUtil.digest(String.join("\n",
+                fromContext.getConnectionType().name(),
+                link.getFromBox(),
+                link.getFromPin(),
+                link.getToBox(),
+                link.getToPin(),
+                fromRes.getSourceHash(),
+                toRes.getSourceHash()
+        ));
+    }
 }
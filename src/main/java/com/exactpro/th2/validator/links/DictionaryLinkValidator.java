@@ -16,42 +16,41 @@
 
 package com.exactpro.th2.validator.links;
 
+import com.exactpro.th2.infrarepo.repo.RepositoryResource;
 import com.exactpro.th2.validator.SchemaContext;
 import com.exactpro.th2.validator.SchemaValidationContext;
 import com.exactpro.th2.validator.model.link.DictionaryLink;
 
-import java.util.HashSet;
-import java.util.Map;
+import java.util.Collection;
 import java.util.Set;
 
-import static com.exactpro.th2.validator.util.ResourceUtils.getSection;
-
-@SuppressWarnings("unchecked")
 class DictionaryLinkValidator {
     private final SchemaContext schemaContext;
 
-    private static final String LINK_START = "${dictionary_link:";
-
-    private static final String LINK_END = "}";
+    private final Collection<RepositoryResource> boxes;
 
     DictionaryLinkValidator(SchemaContext schemaContext) {
+        this(schemaContext, schemaContext.getAllBoxes());
+    }
+
+    DictionaryLinkValidator(SchemaContext schemaContext, Collection<RepositoryResource> boxes) {
         this.schemaContext = schemaContext;
+        this.boxes = boxes;
     }
 
     void validateLinks() {
         SchemaValidationContext schemaValidationContext = schemaContext.getSchemaValidationContext();
 
-        for (var box : schemaContext.getAllBoxes()) {
-            var spec = (Map<String, Object>) box.getSpec();
-            Map<String, Object> customConfig = getSection(spec, "customConfig");
-            if (customConfig == null) {
-                continue;
+        for (var box : boxes) {
+            if (schemaValidationContext.isAborted()) {
+                return;
             }
-
             final String boxName = box.getMetadata().getName();
-            final Set<String> dictionaryNames = collectDictionaryNames(customConfig);
+            final Set<String> dictionaryNames = schemaContext.getSchemaIndex().getReferences(boxName)
+                    .getDictionaryNames();
 
             for (var dictionaryName : dictionaryNames) {
+                schemaValidationContext.addDependency(boxName, dictionaryName);
                 if (!schemaContext.dictionaryExists(dictionaryName)) {
                     var link = new DictionaryLink(boxName, dictionaryName);
                     schemaValidationContext.setInvalidResource(boxName);
@@ -61,24 +60,4 @@ class DictionaryLinkValidator {
             }
         }
     }
-
-    private Set<String> collectDictionaryNames(Map<String, Object> node) {
-        Set<String> dictionaryNames = new HashSet<>();
-        for (Object value : node.values()) {
-            if (value instanceof String) {
-                String valueStr = (String) value;
-                if (isLink(valueStr)) {
-                    var dictionaryName = valueStr.substring(LINK_START.length(), valueStr.length() - 1);
-                    dictionaryNames.add(dictionaryName);
-                }
-            } else if (value instanceof Map) {
-                dictionaryNames.addAll(collectDictionaryNames((Map<String, Object>) value));
-            }
-        }
-        return dictionaryNames;
-    }
-
-    private boolean isLink(String value) {
-        return value.startsWith(LINK_START) && value.endsWith(LINK_END);
-    }
 }
@@ -16,62 +16,37 @@
 
 package com.exactpro.th2.validator.links;
 
-import com.exactpro.th2.infrarepo.repo.RepositoryResource;
 import com.exactpro.th2.validator.SchemaContext;
+import com.exactpro.th2.validator.SchemaIndex;
 import com.exactpro.th2.validator.SchemaValidationContext;
+import com.exactpro.th2.validator.links.chain.Validator;
 import com.exactpro.th2.validator.links.chain.impl.ExpectedServiceClass;
 import com.exactpro.th2.validator.links.chain.impl.PinExist;
 import com.exactpro.th2.validator.links.chain.impl.ResourceExists;
 import com.exactpro.th2.validator.links.enums.BoxDirection;
 import com.exactpro.th2.validator.links.enums.SchemaConnectionType;
-import com.exactpro.th2.validator.errormessages.LinkErrorMessage;
 import com.exactpro.th2.validator.model.BoxLinkContext;
-import com.exactpro.th2.validator.model.link.Endpoint;
 import com.exactpro.th2.validator.model.link.MessageLink;
 
 class GrpcLinkValidator extends BoxesLinkValidator {
 
-    GrpcLinkValidator(SchemaContext schemaContext) {
-        super(schemaContext);
-    }
-
-    @Override
-    void validateLink(MessageLink link) {
-        Endpoint fromBoxEndpoint = link.getFrom();
-        String resName = link.getResourceName();
-        Endpoint toBoxEndpoint = link.getTo();
+    private static final BoxLinkContext FROM_CONTEXT = new BoxLinkContext.Builder()
+            .setBoxDirection(BoxDirection.from)
+            .setConnectionType(SchemaConnectionType.grpc_client)
+            .build();
 
-        try {
-            RepositoryResource toRes = schemaContext.getBox(toBoxEndpoint.getBox());
+    private static final BoxLinkContext TO_CONTEXT = new BoxLinkContext.Builder()
+            .setBoxDirection(BoxDirection.to)
+            .setConnectionType(SchemaConnectionType.grpc_server)
+            .build();
 
-            var fromContext = new BoxLinkContext.Builder()
-                    .setBoxName(fromBoxEndpoint.getBox())
-                    .setBoxPinName(fromBoxEndpoint.getPin())
-                    .setBoxDirection(BoxDirection.from)
-                    .setConnectionType(SchemaConnectionType.grpc_client)
-                    .setLinkedResource(toRes)
-                    .setLinkedResourceName(toBoxEndpoint.getBox())
-                    .setLinkedPinName(toBoxEndpoint.getPin())
-                    .build();
-
-            var toContext = new BoxLinkContext.Builder()
-                    .setBoxName(toBoxEndpoint.getBox())
-                    .setBoxPinName(toBoxEndpoint.getPin())
-                    .setBoxDirection(BoxDirection.to)
-                    .setConnectionType(SchemaConnectionType.grpc_server)
-                    .build();
-
-            validate(fromContext, toContext, resName, link);
-        } catch (Exception e) {
-            var schemaValidationContext = schemaContext.getSchemaValidationContext();
-            schemaValidationContext.setInvalidResource(resName);
-            schemaValidationContext.addLinkErrorMessage(
-                    new LinkErrorMessage(
-                            link.getContent(),
-                            String.format("Exception: %s", e.getMessage())
-                    )
-            );
-        }
+    GrpcLinkValidator(SchemaContext schemaContext) {
+        super(
+                schemaContext,
+                FROM_CONTEXT,
+                buildChain(FROM_CONTEXT, schemaContext.getSchemaIndex()),
+                buildChain(TO_CONTEXT, schemaContext.getSchemaIndex())
+        );
     }
 
     @Override
@@ -80,16 +55,15 @@ class GrpcLinkValidator extends BoxesLinkValidator {
         schemaValidationContext.addValidGrpcLink(linkResName, link);
     }
 
-    @Override
-    ValidationResult validateByContext(RepositoryResource resource,
-                                       BoxLinkContext context) {
+    private static Validator<Object, ValidationResult, MessageLink> buildChain(BoxLinkContext context,
+                                                                               SchemaIndex schemaIndex) {
         var resValidator = new ResourceExists(context);
-        var pinExist = new PinExist(context);
-        var expectedServiceClass = new ExpectedServiceClass(context);
+        var pinExist = new PinExist(context, schemaIndex);
+        var expectedServiceClass = new ExpectedServiceClass(context, schemaIndex);
 
         resValidator.setNext(pinExist);
         pinExist.setNext(expectedServiceClass);
 
-        return resValidator.validate(resource);
+        return resValidator;
     }
 }
@@ -19,7 +19,10 @@ package com.exactpro.th2.validator.links;
 import com.exactpro.th2.infrarepo.ResourceType;
 import com.exactpro.th2.infrarepo.repo.RepositoryResource;
 import com.exactpro.th2.validator.SchemaContext;
+import com.exactpro.th2.validator.SchemaIndex;
 import com.exactpro.th2.validator.SchemaValidationContext;
+import com.exactpro.th2.validator.SchemaValidatorConfig;
+import com.exactpro.th2.validator.cache.ValidationCache;
 import com.exactpro.th2.validator.errormessages.BoxResourceErrorMessage;
 import com.exactpro.th2.validator.model.BoxesRelation;
 import com.exactpro.th2.validator.model.Th2Spec;
@@ -29,74 +32,186 @@ import com.exactpro.th2.validator.model.link.MessageLink;
 import com.exactpro.th2.validator.model.pin.GrpcClientPin;
 import com.exactpro.th2.validator.model.pin.LinkToEndpoint;
 import com.exactpro.th2.validator.model.pin.MqSubscriberPin;
+import com.exactpro.th2.validator.util.ResourceView;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
-import static com.exactpro.th2.validator.util.MapperUtils.MAPPER;
-import static com.exactpro.th2.validator.util.ResourceUtils.collectResources;
 import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNullElse;
 
 public final class LinksValidator {
+    private static final int LINKS_PER_TASK = 256;
+
     private final SchemaValidationContext validationContext;
 
     private final Map<String, Map<String, RepositoryResource>> repositoryMap;
 
+    private final ResourceView boxesMap;
+
+    private final Executor executor;
+
+    private final ValidationCache validationCache;
+
     public LinksValidator(SchemaValidationContext validationContext,
                           Map<String, Map<String, RepositoryResource>> repositoryMap) {
+        this(validationContext, repositoryMap, ResourceView.boxes(repositoryMap), null, null);
+    }
+
+    /**
+     * @param executor executor to validate mq and grpc links on in parallel.
+     *                 if null, links are validated sequentially in the calling thread
+     */
+    public LinksValidator(SchemaValidationContext validationContext,
+                          Map<String, Map<String, RepositoryResource>> repositoryMap,
+                          Executor executor) {
+        this(validationContext, repositoryMap, ResourceView.boxes(repositoryMap), executor, null);
+    }
+
+    public LinksValidator(SchemaValidationContext validationContext,
+                          Map<String, Map<String, RepositoryResource>> repositoryMap,
+                          SchemaValidatorConfig config) {
+        this(validationContext, repositoryMap, ResourceView.boxes(repositoryMap), config);
+    }
+
+    /**
+     * @param boxesMap view of all boxes of the repository map, shared with other validators of the same run
+     */
+    public LinksValidator(SchemaValidationContext validationContext,
+                          Map<String, Map<String, RepositoryResource>> repositoryMap,
+                          ResourceView boxesMap,
+                          SchemaValidatorConfig config) {
+        this(validationContext, repositoryMap, boxesMap,
+                config.getLinkValidationExecutor(), config.getValidationCache());
+    }
+
+    private LinksValidator(SchemaValidationContext validationContext,
+                           Map<String, Map<String, RepositoryResource>> repositoryMap,
+                           ResourceView boxesMap,
+                           Executor executor,
+                           ValidationCache validationCache) {
         this.validationContext = validationContext;
         this.repositoryMap = repositoryMap;
+        this.boxesMap = boxesMap;
+        this.executor = executor;
+        this.validationCache = validationCache;
     }
 
     public void validateLinks(String schemaName) {
-        Map<String, RepositoryResource> boxesMap = collectResources(
-                repositoryMap,
-                ResourceType.Th2Box.kind(),
-                ResourceType.Th2CoreBox.kind(),
-                ResourceType.Th2Job.kind(),
-                ResourceType.Th2Mstore.kind(),
-                ResourceType.Th2Estore.kind()
-        );
-        Collection<RepositoryResource> boxes = boxesMap.values();
+        validateLinks(schemaName, boxesMap, SchemaIndex.build(boxesMap), boxesMap.values());
+    }
 
-        BoxesRelation links = arrangeBoxLinks(boxes);
+    public void validateLinks(String schemaName, SchemaIndex schemaIndex) {
+        validateLinks(schemaName, boxesMap, schemaIndex, boxesMap.values());
+    }
+
+    /**
+     * validates only the links and dictionary links declared by the given boxes
+     */
+    public void validateLinks(String schemaName, SchemaIndex schemaIndex, Set<String> boxNames) {
+        List<RepositoryResource> boxes = new ArrayList<>();
+        for (String boxName : boxNames) {
+            RepositoryResource box = boxesMap.get(boxName);
+            if (box != null) {
+                boxes.add(box);
+            }
+        }
+        validateLinks(schemaName, boxesMap, schemaIndex, boxes);
+    }
+
+    private void validateLinks(String schemaName,
+                               Map<String, RepositoryResource> boxesMap,
+                               SchemaIndex schemaIndex,
+                               Collection<RepositoryResource> boxes) {
+        BoxesRelation links = arrangeBoxLinks(boxes, schemaIndex);
         Map<String, RepositoryResource> dictionaries = repositoryMap.get(ResourceType.Th2Dictionary.kind());
 
         var schemaContext = new SchemaContext(
                 schemaName,
                 boxesMap,
                 dictionaries,
-                validationContext
+                schemaIndex,
+                validationContext,
+                validationCache
         );
 
-        var mqLinkValidator = new MqLinkValidator(schemaContext);
-        var grpcLinkValidator = new GrpcLinkValidator(schemaContext);
-        var dictionaryLinkValidator = new DictionaryLinkValidator(schemaContext);
+        var dictionaryLinkValidator = new DictionaryLinkValidator(schemaContext, boxes);
 
         removeDuplicateLinks(links);
         removeLinksWithSameEndpoints(links);
 
-        for (MessageLink mqLink : links.getRouterMq()) {
+        if (executor == null) {
+            validateMessageLinks(schemaContext, links.getRouterMq(), links.getRouterGrpc());
+        } else {
+            validateMessageLinksInParallel(schemaContext, links.getRouterMq(), links.getRouterGrpc());
+        }
+
+        dictionaryLinkValidator.validateLinks();
+    }
+
+    private static void validateMessageLinks(SchemaContext schemaContext,
+                                             List<MessageLink> mqLinks,
+                                             List<MessageLink> grpcLinks) {
+        var mqLinkValidator = new MqLinkValidator(schemaContext);
+        var grpcLinkValidator = new GrpcLinkValidator(schemaContext);
+
+        SchemaValidationContext validationContext = schemaContext.getSchemaValidationContext();
+        for (MessageLink mqLink : mqLinks) {
+            if (validationContext.isAborted()) {
+                return;
+            }
             mqLinkValidator.validateLink(mqLink);
         }
 
-        for (MessageLink grpcLink : links.getRouterGrpc()) {
+        for (MessageLink grpcLink : grpcLinks) {
+            if (validationContext.isAborted()) {
+                return;
+            }
             grpcLinkValidator.validateLink(grpcLink);
         }
+    }
 
-        dictionaryLinkValidator.validateLinks();
+    /**
+     * validates chunks of links on the executor, each chunk into its own context.
+     * contexts are merged in the order of the chunks, so the report is the same as after sequential validation
+     */
+    private void validateMessageLinksInParallel(SchemaContext schemaContext,
+                                                List<MessageLink> mqLinks,
+                                                List<MessageLink> grpcLinks) {
+        List<CompletableFuture<SchemaValidationContext>> tasks = new ArrayList<>();
+        for (int from = 0; from < mqLinks.size(); from += LINKS_PER_TASK) {
+            var chunk = mqLinks.subList(from, Math.min(from + LINKS_PER_TASK, mqLinks.size()));
+            tasks.add(CompletableFuture.supplyAsync(
+                    () -> validateChunk(schemaContext, chunk, emptyList()), executor));
+        }
+        for (int from = 0; from < grpcLinks.size(); from += LINKS_PER_TASK) {
+            var chunk = grpcLinks.subList(from, Math.min(from + LINKS_PER_TASK, grpcLinks.size()));
+            tasks.add(CompletableFuture.supplyAsync(
+                    () -> validateChunk(schemaContext, emptyList(), chunk), executor));
+        }
+        for (var task : tasks) {
+            validationContext.merge(task.join());
+        }
+    }
+
+    private static SchemaValidationContext validateChunk(SchemaContext schemaContext,
+                                                         List<MessageLink> mqLinks,
+                                                         List<MessageLink> grpcLinks) {
+        var chunkValidationContext = schemaContext.getSchemaValidationContext().fork();
+        validateMessageLinks(schemaContext.withValidationContext(chunkValidationContext), mqLinks, grpcLinks);
+        return chunkValidationContext;
     }
 
     public void removeDuplicatePins() {
-        Map<String, RepositoryResource> boxesMap = collectResources(
-                repositoryMap,
-                ResourceType.Th2Box.kind(),
-                ResourceType.Th2CoreBox.kind(),
-                ResourceType.Th2Job.kind(),
-                ResourceType.Th2Mstore.kind(),
-                ResourceType.Th2Estore.kind()
-        );
-        var pinsValidator = new PinsValidator(validationContext, boxesMap.values());
+        removeDuplicatePins(boxesMap.values());
+    }
+
+    /**
+     * removes duplicate pins only from the given boxes, e.g. the ones which are validated again
+     */
+    public void removeDuplicatePins(Collection<RepositoryResource> boxes) {
+        var pinsValidator = new PinsValidator(validationContext, boxes);
         pinsValidator.removeDuplicatePins();
     }
 
@@ -104,15 +219,16 @@ public final class LinksValidator {
      * concentrating all links dispersed in boxes into one, easily navigable object
      *
      * @param boxes Collection
+     * @param schemaIndex typed specs of the boxes
      * @return BoxesRelation
      */
-    private BoxesRelation arrangeBoxLinks(Collection<RepositoryResource> boxes) {
+    private BoxesRelation arrangeBoxLinks(Collection<RepositoryResource> boxes, SchemaIndex schemaIndex) {
         var boxesRelation = new BoxesRelation();
 
         for (var box : boxes) {
             final String boxName = box.getMetadata().getName();
             try {
-                Th2Spec boxSpec = MAPPER.convertValue(box.getSpec(), Th2Spec.class);
+                Th2Spec boxSpec = schemaIndex.getSpec(boxName);
 
                 List<MqSubscriberPin> subscribers = requireNonNullElse(
                         boxSpec.getMqSubscribers(), emptyList()
@@ -120,11 +236,14 @@ public final class LinksValidator {
                 for (var sub : subscribers) {
                     List<LinkToEndpoint> linkTo = requireNonNullElse(sub.getLinkTo(), emptyList());
                     String pinName = sub.getName();
-                    linkTo.forEach(startPoint -> boxesRelation.addToMq(new MessageLink(
-                            startPoint.mqLinkMetaData(boxName, pinName),
-                            new Endpoint(startPoint.getBox(), startPoint.getPin()),
-                            new Endpoint(boxName, pinName)
-                    )));
+                    for (var startPoint : linkTo) {
+                        boxesRelation.addToMq(new MessageLink(
+                                boxName,
+                                new Endpoint(startPoint.getBox(), startPoint.getPin()),
+                                new Endpoint(boxName, pinName)
+                        ));
+                        validationContext.addDependency(boxName, startPoint.getBox());
+                    }
                 }
 
                 List<GrpcClientPin> clients = requireNonNullElse(
@@ -133,11 +252,14 @@ public final class LinksValidator {
                 for (var client : clients) {
                     List<LinkToEndpoint> linkTo = requireNonNullElse(client.getLinkTo(), emptyList());
                     String pinName = client.getName();
-                    linkTo.forEach(destination -> boxesRelation.addToGrpc(new MessageLink(
-                            destination.grpcLinkMetaData(boxName, pinName),
-                            new Endpoint(boxName, pinName),
-                            new Endpoint(destination.getBox(), destination.getPin())
-                    )));
+                    for (var destination : linkTo) {
+                        boxesRelation.addToGrpc(new MessageLink(
+                                boxName,
+                                new Endpoint(boxName, pinName),
+                                new Endpoint(destination.getBox(), destination.getPin())
+                        ));
+                        validationContext.addDependency(boxName, destination.getBox());
+                    }
                 }
             } catch (Exception e) {
                 String message = String.format("Exception occurred during the scan of box links: %s",
@@ -155,10 +277,10 @@ public final class LinksValidator {
     }
 
     private <T extends IdentifiableLink> List<T> distinctLinks(List<T> links) {
-        Set<String> linkContents = new HashSet<>();
+        Set<Object> linkKeys = new HashSet<>();
         List<T> distinctLinks = new ArrayList<>();
         for (var link : links) {
-            boolean sameContent = !linkContents.add(link.getContent());
+            boolean sameContent = !linkKeys.add(link.getKey());
             if (sameContent) {
                 validationContext.addLinkErrorMessage(link.errorMessage(
                         "Link is the same as other link(s). Ignoring"));
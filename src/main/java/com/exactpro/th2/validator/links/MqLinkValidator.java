@@ -16,66 +16,35 @@
 
 package com.exactpro.th2.validator.links;
 
-import com.exactpro.th2.infrarepo.repo.RepositoryResource;
 import com.exactpro.th2.validator.SchemaContext;
+import com.exactpro.th2.validator.SchemaIndex;
 import com.exactpro.th2.validator.SchemaValidationContext;
+import com.exactpro.th2.validator.links.chain.Validator;
 import com.exactpro.th2.validator.links.chain.impl.*;
 import com.exactpro.th2.validator.links.enums.BoxDirection;
 import com.exactpro.th2.validator.links.enums.SchemaConnectionType;
-import com.exactpro.th2.validator.errormessages.LinkErrorMessage;
 import com.exactpro.th2.validator.model.BoxLinkContext;
-import com.exactpro.th2.validator.model.link.Endpoint;
 import com.exactpro.th2.validator.model.link.MessageLink;
 
 class MqLinkValidator extends BoxesLinkValidator {
 
-    MqLinkValidator(SchemaContext schemaContext) {
-        super(schemaContext);
-    }
-
-    @Override
-    void validateLink(MessageLink link) {
-        Endpoint fromEndpoint = link.getFrom();
-        Endpoint toEndpoint = link.getTo();
-        String resName = link.getResourceName();
-        String fromBoxName = fromEndpoint.getBox();
-
+    private static final BoxLinkContext FROM_CONTEXT = new BoxLinkContext.Builder()
+            .setBoxDirection(BoxDirection.from)
+            .setConnectionType(SchemaConnectionType.mq)
+            .build();
 
-        try {
-            RepositoryResource toRes = schemaContext.getBox(resName);
-            RepositoryResource fromRes = schemaContext.getBox(fromBoxName);
+    private static final BoxLinkContext TO_CONTEXT = new BoxLinkContext.Builder()
+            .setBoxDirection(BoxDirection.to)
+            .setConnectionType(SchemaConnectionType.mq)
+            .build();
 
-            var fromContext = new BoxLinkContext.Builder()
-                    .setBoxName(fromBoxName)
-                    .setBoxPinName(fromEndpoint.getPin())
-                    .setBoxDirection(BoxDirection.from)
-                    .setConnectionType(SchemaConnectionType.mq)
-                    .setLinkedResource(toRes)
-                    .setLinkedResourceName(toEndpoint.getBox())
-                    .setLinkedPinName(toEndpoint.getPin())
-                    .build();
-
-            var toContext = new BoxLinkContext.Builder()
-                    .setBoxName(toEndpoint.getBox())
-                    .setBoxPinName(toEndpoint.getPin())
-                    .setBoxDirection(BoxDirection.to)
-                    .setConnectionType(SchemaConnectionType.mq)
-                    .setLinkedResource(fromRes)
-                    .setLinkedResourceName(fromEndpoint.getBox())
-                    .setLinkedPinName(fromEndpoint.getPin())
-                    .build();
-
-            validate(fromContext, toContext, resName, link);
-        } catch (Exception e) {
-            var schemaValidationContext = schemaContext.getSchemaValidationContext();
-            schemaValidationContext.setInvalidResource(resName);
-            schemaValidationContext.addLinkErrorMessage(
-                    new LinkErrorMessage(
-                            link.getContent(),
-                            String.format("Exception: %s", e.getMessage())
-                    )
-            );
-        }
+    MqLinkValidator(SchemaContext schemaContext) {
+        super(
+                schemaContext,
+                FROM_CONTEXT,
+                buildChain(FROM_CONTEXT, schemaContext.getSchemaIndex()),
+                buildChain(TO_CONTEXT, schemaContext.getSchemaIndex())
+        );
     }
 
     @Override
@@ -84,16 +53,14 @@ class MqLinkValidator extends BoxesLinkValidator {
         schemaValidationContext.addValidMqLink(linkResName, link);
     }
 
-    @Override
-    ValidationResult validateByContext(RepositoryResource resource,
-                                       BoxLinkContext context) {
+    private static Validator<Object, ValidationResult, MessageLink> buildChain(BoxLinkContext context,
+                                                                               SchemaIndex schemaIndex) {
         var resValidator = new ResourceExists(context);
-        var pinExist = new PinExist(context);
+        var pinExist = new PinExist(context, schemaIndex);
         var expectedPinAttr = new ExpectedDirectionalAttr(context);
-        var expectedRawAttr = new ExpectedRawMessageAttr(context);
-        var expectedParsedAttr = new ExpectedParsedMessageAttr(context);
-        var expectedGroupAttr = new ExpectedGroupMessageAttr(context);
-
+        var expectedRawAttr = new ExpectedRawMessageAttr(context, schemaIndex);
+        var expectedParsedAttr = new ExpectedParsedMessageAttr(context, schemaIndex);
+        var expectedGroupAttr = new ExpectedGroupMessageAttr(context, schemaIndex);
 
         resValidator.setNext(pinExist);
         pinExist.setNext(expectedPinAttr);
@@ -101,6 +68,6 @@ class MqLinkValidator extends BoxesLinkValidator {
         expectedRawAttr.setNext(expectedParsedAttr);
         expectedParsedAttr.setNext(expectedGroupAttr);
 
-        return resValidator.validate(resource);
+        return resValidator;
     }
 }
@@ -22,6 +22,8 @@ import static com.exactpro.th2.validator.links.enums.ValidationStatus.INVALID;
 
 public class ValidationResult {
 
+    private static final ValidationResult VALID = new ValidationResult("", ValidationStatus.VALID);
+
     private final String message;
 
     private final ValidationStatus validationStatus;
@@ -31,7 +33,7 @@ public class ValidationResult {
     }
 
     public static ValidationResult valid() {
-        return new ValidationResult("", ValidationStatus.VALID);
+        return VALID;
     }
 
     private ValidationResult(String message, ValidationStatus validationStatus) {
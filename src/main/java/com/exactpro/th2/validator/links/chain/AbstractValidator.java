@@ -17,23 +17,24 @@
 package com.exactpro.th2.validator.links.chain;
 
 import com.exactpro.th2.validator.links.ValidationResult;
+import com.exactpro.th2.validator.model.link.MessageLink;
 
 import java.util.Objects;
 
-public abstract class AbstractValidator implements Validator<Object, ValidationResult, Object> {
+public abstract class AbstractValidator implements Validator<Object, ValidationResult, MessageLink> {
 
-    private Validator<Object, ValidationResult, Object> next;
+    private Validator<Object, ValidationResult, MessageLink> next;
 
     @Override
-    public ValidationResult validate(Object object, Object... additional) {
+    public ValidationResult validate(Object object, MessageLink link) {
         if (Objects.nonNull(next)) {
-            return next.validate(object);
+            return next.validate(object, link);
         }
         return ValidationResult.valid();
     }
 
     @Override
-    public void setNext(Validator<Object, ValidationResult, Object> validator) {
+    public void setNext(Validator<Object, ValidationResult, MessageLink> validator) {
         this.next = validator;
     }
 
@@ -16,10 +16,14 @@
 
 package com.exactpro.th2.validator.links.chain;
 
+/**
+ * Link of a validation chain.
+ * Validators don't keep any state of the validated object,
+ * so the same chain can be reused for all links, including from several threads.
+ */
 public interface Validator<T, R, AD> {
 
-    @SuppressWarnings("unchecked")
-    R validate(T object, AD... additional);
+    R validate(T object, AD additional);
 
     void setNext(Validator<T, R, AD> validator);
 
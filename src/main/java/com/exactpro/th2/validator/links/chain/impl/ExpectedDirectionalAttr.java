@@ -21,6 +21,7 @@ import com.exactpro.th2.validator.links.enums.BoxDirection;
 import com.exactpro.th2.validator.links.ValidationResult;
 import com.exactpro.th2.validator.links.enums.DirectionAttribute;
 import com.exactpro.th2.validator.model.BoxLinkContext;
+import com.exactpro.th2.validator.model.link.MessageLink;
 import com.exactpro.th2.validator.model.pin.MqPin;
 
 public final class ExpectedDirectionalAttr extends AbstractValidator {
@@ -32,14 +33,14 @@ public final class ExpectedDirectionalAttr extends AbstractValidator {
     }
 
     @Override
-    public ValidationResult validate(Object object, Object... additional) {
+    public ValidationResult validate(Object object, MessageLink link) {
         if (!(object instanceof MqPin)) {
             throw new IllegalStateException("Expected target of type PinSpec");
         }
         var pin = (MqPin) object;
         switch (boxDirection) {
             case to:
-                if (pin.getAttributes().contains(DirectionAttribute.publish.name())) {
+                if (pin.getPinAttributes().hasDirection(DirectionAttribute.publish)) {
                     return ValidationResult.invalid(
                             String.format("Invalid pin: \"%s\". must not contain attribute: [%s]",
                                     pin.getName(), DirectionAttribute.publish.name())
@@ -48,7 +49,7 @@ public final class ExpectedDirectionalAttr extends AbstractValidator {
                 break;
 
             case from:
-                if (pin.getAttributes().contains(DirectionAttribute.subscribe.name())) {
+                if (pin.getPinAttributes().hasDirection(DirectionAttribute.subscribe)) {
                     return ValidationResult.invalid(
                             String.format("Invalid pin: \"%s\". must not contain attribute: [%s]",
                                     pin.getName(), DirectionAttribute.subscribe.name())
@@ -56,6 +57,6 @@ public final class ExpectedDirectionalAttr extends AbstractValidator {
                 }
                 break;
         }
-        return super.validate(pin, additional);
+        return super.validate(pin, link);
     }
 }
@@ -16,22 +16,24 @@
 
 package com.exactpro.th2.validator.links.chain.impl;
 
+import com.exactpro.th2.validator.SchemaIndex;
 import com.exactpro.th2.validator.links.enums.MessageFormatAttribute;
 import com.exactpro.th2.validator.model.BoxLinkContext;
 
 import java.util.List;
 
 public final class ExpectedGroupMessageAttr extends ExpectedMessageFormatAttr {
-    public ExpectedGroupMessageAttr(BoxLinkContext context) {
+    public ExpectedGroupMessageAttr(BoxLinkContext context, SchemaIndex schemaIndex) {
         super(
                 context,
-                MessageFormatAttribute.group.getPrefix(),
+                schemaIndex,
+                MessageFormatAttribute.group,
                 //contradictingAttributePrefixes
-                List.of(MessageFormatAttribute.event.getPrefix()),
+                List.of(MessageFormatAttribute.event),
                 //otherMatchingAttributePrefixes
                 List.of(
-                        MessageFormatAttribute.raw.getPrefix(),
-                        MessageFormatAttribute.parsed.getPrefix()
+                        MessageFormatAttribute.raw,
+                        MessageFormatAttribute.parsed
                 )
         );
     }
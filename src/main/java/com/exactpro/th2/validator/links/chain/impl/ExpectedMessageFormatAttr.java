@@ -16,107 +16,108 @@
 
 package com.exactpro.th2.validator.links.chain.impl;
 
-import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.exactpro.th2.validator.SchemaIndex;
 import com.exactpro.th2.validator.links.chain.AbstractValidator;
 import com.exactpro.th2.validator.links.ValidationResult;
+import com.exactpro.th2.validator.links.enums.MessageFormatAttribute;
 import com.exactpro.th2.validator.model.BoxLinkContext;
 import com.exactpro.th2.validator.model.pin.MqPin;
 import com.exactpro.th2.validator.model.Th2Spec;
+import com.exactpro.th2.validator.model.link.MessageLink;
 import com.exactpro.th2.validator.model.pin.MqPublisherPin;
 import com.exactpro.th2.validator.model.pin.MqSubscriberPin;
+import com.exactpro.th2.validator.model.pin.PinAttributes;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import static com.exactpro.th2.validator.util.MapperUtils.MAPPER;
 import static java.lang.String.format;
 
 public class ExpectedMessageFormatAttr extends AbstractValidator {
 
-    private final RepositoryResource linkedResource;
+    private final BoxLinkContext context;
 
-    private final String linkedPinName;
+    private final MessageFormatAttribute mainAttribute;
 
-    private final String linkedResourceName;
+    private final int otherMatchingAttributesMask;
 
-    private final String mainAttributePrefix;
+    private final List<MessageFormatAttribute> contradictingAttributes;
 
-    private final List<String> otherMatchingAttributePrefixes;
-
-    private final List<String> contradictingAttributePrefixes;
+    private final SchemaIndex schemaIndex;
 
     public ExpectedMessageFormatAttr(
             BoxLinkContext context,
-            String mainAttributePrefix,
-            List<String> contradictingAttributePrefixes,
-            List<String> otherMatchingAttributePrefixes
+            SchemaIndex schemaIndex,
+            MessageFormatAttribute mainAttribute,
+            List<MessageFormatAttribute> contradictingAttributes,
+            List<MessageFormatAttribute> otherMatchingAttributes
     ) {
-        this.linkedResource = context.getLinkedResource();
-        this.linkedResourceName = context.getLinkedResourceName();
-        this.linkedPinName = context.getLinkedPinName();
+        this.context = context;
+        this.schemaIndex = schemaIndex;
 
-        this.mainAttributePrefix = mainAttributePrefix;
+        this.mainAttribute = mainAttribute;
 
-        this.otherMatchingAttributePrefixes = otherMatchingAttributePrefixes;
-        this.contradictingAttributePrefixes = contradictingAttributePrefixes;
+        this.otherMatchingAttributesMask = PinAttributes.mask(otherMatchingAttributes);
+        this.contradictingAttributes = contradictingAttributes;
     }
 
     @Override
-    public ValidationResult validate(Object object, Object... additional) {
+    public ValidationResult validate(Object object, MessageLink link) {
         if (!(object instanceof MqPin)) {
             throw new IllegalStateException("Expected target of type PinSpec");
         }
 
         if (object instanceof MqSubscriberPin) {
-            return super.validate(object, additional);
+            return super.validate(object, link);
         }
 
         var pin = (MqPublisherPin) object;
+        PinAttributes attributes = pin.getPinAttributes();
 
-        List<String> filteredAttributes = mainPrefixAttributes(pin);
-
-        if (filteredAttributes.isEmpty()) {
-            return super.validate(pin, additional);
+        if (!attributes.hasFormat(mainAttribute)) {
+            return super.validate(pin, link);
         }
 
-        ValidationResult resultForSubPin = checkForPinAttributes(pin, filteredAttributes, additional);
+        ValidationResult resultForSubPin = checkForPinAttributes(pin);
         if (resultForSubPin.isInvalid()) {
             return resultForSubPin;
         }
 
-        if (linkedResource == null) {
+        String linkedResourceName = context.getLinkedResourceName(link);
+        String linkedPinName = context.getLinkedPinName(link);
+        if (!schemaIndex.contains(linkedResourceName)) {
             return ValidationResult.invalid(format("Linked resource: [%s] does not exist", linkedResourceName));
         }
 
-        String exactAttribute = filteredAttributes.get(0);
+        String exactAttribute = attributes.firstAttribute(mainAttribute);
 
-        Th2Spec linkedResSpec = MAPPER.convertValue(linkedResource.getSpec(), Th2Spec.class);
-        MqPin linkedPin = linkedResSpec.getMqPin(linkedPinName);
-
-        List<String> attributesForLinkedPin = mainPrefixAttributes(linkedPin);
+        Th2Spec linkedResSpec = schemaIndex.getSpec(linkedResourceName);
+        MqPin linkedPin = linkedResSpec != null ? linkedResSpec.getMqPin(linkedPinName) : null;
+        if (linkedPin == null) {
+            return ValidationResult.invalid(format("Linked pin: [%s] on resource: [%s] does not exist",
+                    linkedPinName, linkedResourceName));
+        }
 
-        var linkedPinMainAttributes = checkForPinAttributes(linkedPin, attributesForLinkedPin, additional);
+        var linkedPinMainAttributes = checkForPinAttributes(linkedPin);
         if (linkedPinMainAttributes.isInvalid()) {
             return linkedPinMainAttributes;
         }
 
         ValidationResult linkedPinOtherAttributeMatch = linkedPinAttributeMatch(
-                linkedPin, exactAttribute, otherMatchingAttributePrefixes
+                linkedPin, linkedPinName, linkedResourceName, exactAttribute
         );
         if (linkedPinOtherAttributeMatch.isInvalid()) {
             return linkedPinOtherAttributeMatch;
         }
-        return super.validate(pin, additional);
+        return super.validate(pin, link);
     }
 
-    private ValidationResult checkForPinAttributes(MqPin pin, List<String> filteredAttributes, Object... additional) {
-        ValidationResult duplicationResult = checkForDuplication(pin, filteredAttributes, additional);
+    private ValidationResult checkForPinAttributes(MqPin pin) {
+        ValidationResult duplicationResult = checkForDuplication(pin);
         if (duplicationResult.isInvalid()) {
             return duplicationResult;
         }
 
-        var contradictingAttributesResult = checkContradictingAttributes(pin, contradictingAttributePrefixes);
+        var contradictingAttributesResult = checkContradictingAttributes(pin);
         if (contradictingAttributesResult.isInvalid()) {
             return contradictingAttributesResult;
         }
@@ -124,35 +125,24 @@ public class ExpectedMessageFormatAttr extends AbstractValidator {
         return ValidationResult.valid();
     }
 
-    private ValidationResult checkForDuplication(MqPin pin, List<String> filteredAttributes, Object... additional) {
-        String pinName = pin.getName();
-
-        if (filteredAttributes.size() > 1) {
+    private ValidationResult checkForDuplication(MqPin pin) {
+        if (pin.getPinAttributes().hasDuplicates(mainAttribute)) {
             // error. more than 1 attribute with the same prefix.
             return ValidationResult.invalid(
                     format("Invalid pin: \"%s\". detected multiple attributes with prefix: [%s]",
-                            pinName, mainAttributePrefix)
+                            pin.getName(), mainAttribute.getPrefix())
             );
         }
 
         return ValidationResult.valid();
     }
 
-    private List<String> mainPrefixAttributes(MqPin pin) {
-        return pin.getAttributes()
-                .stream()
-                .filter(attribute -> attribute.startsWith(mainAttributePrefix))
-                .collect(Collectors.toUnmodifiableList());
-    }
-
-    protected ValidationResult checkContradictingAttributes(MqPin pin, List<String> excludedAttributePrefixes) {
-        for (String excludedPrefix : excludedAttributePrefixes) {
-            var contradictingAttributes = pin.getAttributes()
-                    .stream()
-                    .filter(attribute -> attribute.startsWith(excludedPrefix)).collect(Collectors.toList());
-            if (contradictingAttributes.size() > 0) {
+    protected ValidationResult checkContradictingAttributes(MqPin pin) {
+        PinAttributes attributes = pin.getPinAttributes();
+        for (var excludedAttribute : contradictingAttributes) {
+            if (attributes.hasFormat(excludedAttribute)) {
                 return ValidationResult.invalid(format("Invalid pin: \"%s\". [%s] contradicts with: [%s]",
-                        pin.getName(), contradictingAttributes, mainAttributePrefix)
+                        pin.getName(), attributes.withPrefix(excludedAttribute), mainAttribute.getPrefix())
                 );
             }
         }
@@ -160,21 +150,12 @@ public class ExpectedMessageFormatAttr extends AbstractValidator {
     }
 
     protected ValidationResult linkedPinAttributeMatch(MqPin linkedPin,
-                                                       String exactAttribute,
-                                                       List<String> otherMatchingAttributePrefixes) {
-        if (linkedPin == null) {
-            return ValidationResult.invalid(format("Linked pin: [%s] on resource: [%s] does not exist",
-                    linkedPinName, linkedResourceName));
-        }
-
-        List<String> otherMatchingAttributes = new ArrayList<>();
-        for (String matchingPrefix : otherMatchingAttributePrefixes) {
-            var attrFilter = linkedPin.getAttributes()
-                    .stream()
-                    .filter(attr -> attr.startsWith(matchingPrefix)).collect(Collectors.toList());
-            otherMatchingAttributes.addAll(attrFilter);
-        }
-        if (linkedPin.getAttributes().contains(exactAttribute) || otherMatchingAttributes.size() > 0) {
+                                                       String linkedPinName,
+                                                       String linkedResourceName,
+                                                       String exactAttribute) {
+        PinAttributes linkedPinAttributes = linkedPin.getPinAttributes();
+        if (linkedPinAttributes.contains(exactAttribute)
+                || linkedPinAttributes.hasAnyFormat(otherMatchingAttributesMask)) {
             return ValidationResult.valid();
         }
         return ValidationResult.invalid(format("linked pin: [%s] on resource: [%s] does not contain [%s] attribute",
@@ -16,23 +16,25 @@
 
 package com.exactpro.th2.validator.links.chain.impl;
 
+import com.exactpro.th2.validator.SchemaIndex;
 import com.exactpro.th2.validator.links.enums.MessageFormatAttribute;
 import com.exactpro.th2.validator.model.BoxLinkContext;
 
 import java.util.List;
 
 public final class ExpectedParsedMessageAttr extends ExpectedMessageFormatAttr {
-    public ExpectedParsedMessageAttr(BoxLinkContext context) {
+    public ExpectedParsedMessageAttr(BoxLinkContext context, SchemaIndex schemaIndex) {
         super(
                 context,
-                MessageFormatAttribute.parsed.getPrefix(),
+                schemaIndex,
+                MessageFormatAttribute.parsed,
                 //contradictingAttributePrefixes
                 List.of(
-                        MessageFormatAttribute.raw.getPrefix(),
-                        MessageFormatAttribute.event.getPrefix()
+                        MessageFormatAttribute.raw,
+                        MessageFormatAttribute.event
                 ),
                 //otherMatchingAttributePrefixes
-                List.of(MessageFormatAttribute.group.getPrefix())
+                List.of(MessageFormatAttribute.group)
         );
     }
 }
@@ -16,6 +16,7 @@
 
 package com.exactpro.th2.validator.links.chain.impl;
 
+import com.exactpro.th2.validator.SchemaIndex;
 import com.exactpro.th2.validator.links.enums.MessageFormatAttribute;
 import com.exactpro.th2.validator.model.BoxLinkContext;
 
@@ -23,17 +24,18 @@ import java.util.List;
 
 public final class ExpectedRawMessageAttr extends ExpectedMessageFormatAttr {
 
-    public ExpectedRawMessageAttr(BoxLinkContext context) {
+    public ExpectedRawMessageAttr(BoxLinkContext context, SchemaIndex schemaIndex) {
         super(
                 context,
-                MessageFormatAttribute.raw.getPrefix(),
+                schemaIndex,
+                MessageFormatAttribute.raw,
                 //contradictingAttributePrefixes
                 List.of(
-                        MessageFormatAttribute.parsed.getPrefix(),
-                        MessageFormatAttribute.event.getPrefix()
+                        MessageFormatAttribute.parsed,
+                        MessageFormatAttribute.event
                 ),
                 //otherMatchingAttributePrefixes
-                List.of(MessageFormatAttribute.group.getPrefix())
+                List.of(MessageFormatAttribute.group)
         );
     }
 }
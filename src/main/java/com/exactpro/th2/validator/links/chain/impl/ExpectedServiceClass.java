@@ -16,47 +16,43 @@
 
 package com.exactpro.th2.validator.links.chain.impl;
 
-import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.exactpro.th2.validator.SchemaIndex;
 import com.exactpro.th2.validator.links.chain.AbstractValidator;
 import com.exactpro.th2.validator.links.enums.SchemaConnectionType;
 import com.exactpro.th2.validator.links.ValidationResult;
 import com.exactpro.th2.validator.model.*;
+import com.exactpro.th2.validator.model.link.MessageLink;
 import com.exactpro.th2.validator.model.pin.GrpcClientPin;
 import com.exactpro.th2.validator.model.pin.GrpcServerPin;
 
 import java.util.Set;
 
-import static com.exactpro.th2.validator.util.MapperUtils.MAPPER;
 import static java.lang.String.format;
 
 public final class ExpectedServiceClass extends AbstractValidator {
 
-    private final RepositoryResource linkedResource;
+    private final BoxLinkContext context;
 
-    private final String linkedResourceName;
+    private final SchemaIndex schemaIndex;
 
-    private final String linkedPinName;
-
-    private final SchemaConnectionType connectionType;
-
-    public ExpectedServiceClass(BoxLinkContext context) {
-        this.linkedResource = context.getLinkedResource();
-        this.linkedResourceName = context.getLinkedResourceName();
-        this.linkedPinName = context.getLinkedPinName();
-        this.connectionType = context.getConnectionType();
+    public ExpectedServiceClass(BoxLinkContext context, SchemaIndex schemaIndex) {
+        this.context = context;
+        this.schemaIndex = schemaIndex;
     }
 
     @Override
-    public ValidationResult validate(Object object, Object... additional) {
+    public ValidationResult validate(Object object, MessageLink link) {
 
-        if (connectionType == SchemaConnectionType.grpc_server) {
-            return super.validate(object, additional);
+        if (context.getConnectionType() == SchemaConnectionType.grpc_server) {
+            return super.validate(object, link);
         }
-        if (linkedResource == null) {
+        String linkedResourceName = context.getLinkedResourceName(link);
+        String linkedPinName = context.getLinkedPinName(link);
+        if (!schemaIndex.contains(linkedResourceName)) {
             return ValidationResult.invalid(format("Linked resource: [%s] does not exist", linkedResourceName));
         }
 
-        Th2Spec linkedResSpec = MAPPER.convertValue(linkedResource.getSpec(), Th2Spec.class);
+        Th2Spec linkedResSpec = schemaIndex.getSpec(linkedResourceName);
         GrpcServerPin linkedPin = linkedResSpec.getGrpcServerPin(linkedPinName);
 
         if (linkedPin == null) {
@@ -75,7 +71,7 @@ public final class ExpectedServiceClass extends AbstractValidator {
 
         var pin = (GrpcClientPin) object;
         if (serviceClasses.contains(pin.getServiceClass())) {
-            return super.validate(object, additional);
+            return super.validate(object, link);
         }
 
         return ValidationResult.invalid(format(
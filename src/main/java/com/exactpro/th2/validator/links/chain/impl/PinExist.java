@@ -17,34 +17,37 @@
 package com.exactpro.th2.validator.links.chain.impl;
 
 import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.exactpro.th2.validator.SchemaIndex;
 import com.exactpro.th2.validator.links.chain.AbstractValidator;
 import com.exactpro.th2.validator.links.ValidationResult;
 import com.exactpro.th2.validator.model.BoxLinkContext;
 import com.exactpro.th2.validator.model.Th2Spec;
+import com.exactpro.th2.validator.model.link.MessageLink;
 
 import java.util.Objects;
 
-import static com.exactpro.th2.validator.util.MapperUtils.MAPPER;
-
 public final class PinExist extends AbstractValidator {
 
-    private final String pinName;
+    private final BoxLinkContext context;
+
+    private final SchemaIndex schemaIndex;
 
-    public PinExist(BoxLinkContext context) {
-        this.pinName = context.getBoxPinName();
+    public PinExist(BoxLinkContext context, SchemaIndex schemaIndex) {
+        this.context = context;
+        this.schemaIndex = schemaIndex;
     }
 
     @Override
-    public ValidationResult validate(Object object, Object... additional) {
+    public ValidationResult validate(Object object, MessageLink link) {
         if (!(object instanceof RepositoryResource)) {
             throw new IllegalStateException("Expected target of type Th2CustomResource");
         }
-        var resource = (RepositoryResource) object;
 
-        Th2Spec spec = MAPPER.convertValue(resource.getSpec(), Th2Spec.class);
+        String pinName = context.getBoxPinName(link);
+        Th2Spec spec = schemaIndex.getSpec(context.getBoxName(link));
         var pin = spec.getPin(pinName);
         if (Objects.nonNull(pin)) {
-            return super.validate(pin, additional);
+            return super.validate(pin, link);
         }
         return ValidationResult.invalid(String.format("Pin: [%s] does not exist", pinName));
     }
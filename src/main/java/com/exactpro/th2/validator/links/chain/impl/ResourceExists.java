@@ -19,22 +19,23 @@ package com.exactpro.th2.validator.links.chain.impl;
 import com.exactpro.th2.validator.links.chain.AbstractValidator;
 import com.exactpro.th2.validator.links.ValidationResult;
 import com.exactpro.th2.validator.model.BoxLinkContext;
+import com.exactpro.th2.validator.model.link.MessageLink;
 
 public class ResourceExists extends AbstractValidator {
 
-    private final String resourceName;
+    private final BoxLinkContext context;
 
     public ResourceExists(BoxLinkContext context) {
-        this.resourceName = context.getBoxName();
+        this.context = context;
     }
 
     @Override
-    public ValidationResult validate(Object object, Object... additional) {
+    public ValidationResult validate(Object object, MessageLink link) {
 
         if (object != null) {
-            return super.validate(object, additional);
+            return super.validate(object, link);
         }
-        return ValidationResult.invalid(String.format("Resource [%s] doesn't exist", resourceName));
+        return ValidationResult.invalid(String.format("Resource [%s] doesn't exist", context.getBoxName(link)));
     }
 
 }
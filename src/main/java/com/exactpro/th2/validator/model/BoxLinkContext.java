@@ -16,34 +16,21 @@
 
 package com.exactpro.th2.validator.model;
 
-import com.exactpro.th2.infrarepo.repo.RepositoryResource;
 import com.exactpro.th2.validator.links.enums.BoxDirection;
 import com.exactpro.th2.validator.links.enums.SchemaConnectionType;
+import com.exactpro.th2.validator.model.link.MessageLink;
 
+/**
+ * Describes which end of a link is validated.
+ * Names of the boxes and pins are taken from the validated link,
+ * so one context serves all links of the same connection type.
+ */
 public final class BoxLinkContext {
 
-    private String boxName;
-
-    private String boxPinName;
-
     private BoxDirection boxDirection;
 
     private SchemaConnectionType connectionType;
 
-    private RepositoryResource linkedResource;
-
-    private String linkedResourceName;
-
-    private String linkedPinName;
-
-    public String getBoxName() {
-        return boxName;
-    }
-
-    public String getBoxPinName() {
-        return boxPinName;
-    }
-
     public BoxDirection getBoxDirection() {
         return boxDirection;
     }
@@ -52,44 +39,28 @@ public final class BoxLinkContext {
         return connectionType;
     }
 
-    public RepositoryResource getLinkedResource() {
-        return linkedResource;
+    public String getBoxName(MessageLink link) {
+        return boxDirection == BoxDirection.from ? link.getFromBox() : link.getToBox();
     }
 
-    public String getLinkedResourceName() {
-        return linkedResourceName;
+    public String getBoxPinName(MessageLink link) {
+        return boxDirection == BoxDirection.from ? link.getFromPin() : link.getToPin();
     }
 
-    public String getLinkedPinName() {
-        return linkedPinName;
+    public String getLinkedResourceName(MessageLink link) {
+        return boxDirection == BoxDirection.from ? link.getToBox() : link.getFromBox();
     }
 
-    public static class Builder {
-
-        private String boxName;
+    public String getLinkedPinName(MessageLink link) {
+        return boxDirection == BoxDirection.from ? link.getToPin() : link.getFromPin();
+    }
 
-        private String boxPinName;
+    public static class Builder {
 
         private BoxDirection boxDirection;
 
         private SchemaConnectionType connectionType;
 
-        private RepositoryResource linkedResource;
-
-        private String linkedResourceName;
-
-        private String linkedPinName;
-
-        public Builder setBoxName(String boxName) {
-            this.boxName = boxName;
-            return this;
-        }
-
-        public Builder setBoxPinName(String boxPinName) {
-            this.boxPinName = boxPinName;
-            return this;
-        }
-
         public Builder setBoxDirection(BoxDirection boxDirection) {
             this.boxDirection = boxDirection;
             return this;
@@ -100,31 +71,11 @@ public final class BoxLinkContext {
             return this;
         }
 
-        public Builder setLinkedResource(RepositoryResource linkedResource) {
-            this.linkedResource = linkedResource;
-            return this;
-        }
-
-        public Builder setLinkedResourceName(String linkedResourceName) {
-            this.linkedResourceName = linkedResourceName;
-            return this;
-        }
-
-        public Builder setLinkedPinName(String linkedPinName) {
-            this.linkedPinName = linkedPinName;
-            return this;
-        }
-
         public BoxLinkContext build() {
 
             BoxLinkContext boxLinkContext = new BoxLinkContext();
-            boxLinkContext.boxName = boxName;
-            boxLinkContext.boxPinName = boxPinName;
             boxLinkContext.boxDirection = boxDirection;
             boxLinkContext.connectionType = connectionType;
-            boxLinkContext.linkedResource = linkedResource;
-            boxLinkContext.linkedPinName = linkedPinName;
-            boxLinkContext.linkedResourceName = linkedResourceName;
             return boxLinkContext;
         }
     }
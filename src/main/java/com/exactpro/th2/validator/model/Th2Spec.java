@@ -62,15 +62,6 @@ public final class Th2Spec {
     }
 
     public Th2Pin getPin(String name) {
-        Th2Pin pin = getMqPin(name);
-        if (pin != null) {
-            return pin;
-        }
-        pin = getGrpcClientPin(name);
-        if (pin != null) {
-            return pin;
-        }
-        pin = getGrpcServerPin(name);
-        return pin;
+        return pins.getPin(name);
     }
 }
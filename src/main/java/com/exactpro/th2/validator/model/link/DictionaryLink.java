@@ -46,6 +46,7 @@ public final class DictionaryLink implements IdentifiableLink {
     @Override
     public LinkErrorMessage errorMessage(String message) {
         return new LinkErrorMessage(
+                getResourceName(),
                 getContent(),
                 message
         );
@@ -21,6 +21,13 @@ import com.exactpro.th2.validator.errormessages.LinkErrorMessage;
 public interface IdentifiableLink {
     String getContent();
 
+    /**
+     * @return object which is equal for links considered the same, used to detect duplicate links
+     */
+    default Object getKey() {
+        return getContent();
+    }
+
     String getResourceName();
 
     LinkErrorMessage errorMessage(String message);
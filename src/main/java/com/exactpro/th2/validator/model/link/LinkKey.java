@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.model.link;
+
+import java.util.Objects;
+
+/**
+ * Identity of a message link made of its ends, cheap to hash and compare.
+ * Human-readable form is rendered only on demand.
+ */
+public final class LinkKey {
+
+    private final String fromBox;
+
+    private final String fromPin;
+
+    private final String toBox;
+
+    private final String toPin;
+
+    private final int hash;
+
+    public LinkKey(String fromBox, String fromPin, String toBox, String toPin) {
+        this.fromBox = fromBox;
+        this.fromPin = fromPin;
+        this.toBox = toBox;
+        this.toPin = toPin;
+        // same value as Objects.hash(fromBox, fromPin, toBox, toPin), without the varargs array
+        int result = 31 + Objects.hashCode(fromBox);
+        result = 31 * result + Objects.hashCode(fromPin);
+        result = 31 * result + Objects.hashCode(toBox);
+        this.hash = 31 * result + Objects.hashCode(toPin);
+    }
+
+    /**
+     * @return link in the form of "FROM box:pin TO box:pin"
+     */
+    public String render() {
+        return "FROM " + fromBox + ':' + fromPin + " TO " + toBox + ':' + toPin;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LinkKey that = (LinkKey) o;
+        return hash == that.hash
+                && Objects.equals(fromBox, that.fromBox)
+                && Objects.equals(fromPin, that.fromPin)
+                && Objects.equals(toBox, that.toBox)
+                && Objects.equals(toPin, that.toPin);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return render();
+    }
+}
@@ -16,6 +16,11 @@
 
 package com.exactpro.th2.validator.model.link;
 
+/**
+ * @deprecated links are identified by {@link LinkKey} and their content is rendered on demand,
+ * use {@link MessageLink#MessageLink(String, Endpoint, Endpoint)}. Will be removed in the next release.
+ */
+@Deprecated
 public class LinkMeta {
     private final String resName;
 
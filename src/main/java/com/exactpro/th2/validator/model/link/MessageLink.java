@@ -20,16 +20,33 @@ import com.exactpro.th2.validator.errormessages.LinkErrorMessage;
 import com.exactpro.th2.validator.model.pin.LinkToEndpoint;
 
 public final class MessageLink implements IdentifiableLink {
-    private final LinkMeta linkMeta;
+    private final String resName;
 
     private final Endpoint from;
 
     private final Endpoint to;
 
-    public MessageLink(LinkMeta linkMeta, Endpoint from, Endpoint to) {
-        this.linkMeta = linkMeta;
+    private final LinkKey key;
+
+    private String content;
+
+    /**
+     * @param resName name of the box which declares the link
+     */
+    public MessageLink(String resName, Endpoint from, Endpoint to) {
+        this.resName = resName;
         this.from = from;
         this.to = to;
+        this.key = new LinkKey(from.getBox(), from.getPin(), to.getBox(), to.getPin());
+    }
+
+    /**
+     * @deprecated use {@link #MessageLink(String, Endpoint, Endpoint)}. Will be removed in the next release.
+     */
+    @Deprecated
+    public MessageLink(LinkMeta linkMeta, Endpoint from, Endpoint to) {
+        this(linkMeta.resName(), from, to);
+        this.content = linkMeta.content();
     }
 
     public LinkToEndpoint mqLinkToEndpoint() {
@@ -42,17 +59,31 @@ public final class MessageLink implements IdentifiableLink {
 
     @Override
     public String getResourceName() {
-        return this.linkMeta.resName();
+        return this.resName;
     }
 
+    /**
+     * rendered on the first call, since it's needed only for messages
+     */
     @Override
     public String getContent() {
-        return this.linkMeta.content();
+        String result = content;
+        if (result == null) {
+            result = key.render();
+            content = result;
+        }
+        return result;
+    }
+
+    @Override
+    public LinkKey getKey() {
+        return key;
     }
 
     @Override
     public LinkErrorMessage errorMessage(String message) {
         return new LinkErrorMessage(
+                getResourceName(),
                 getContent(),
                 message
         );
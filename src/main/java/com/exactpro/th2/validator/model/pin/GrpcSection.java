@@ -18,12 +18,19 @@ package com.exactpro.th2.validator.model.pin;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+
+import static com.exactpro.th2.validator.model.pin.PinIndex.indexPins;
 
 public final class GrpcSection {
     private List<GrpcClientPin> client = new ArrayList<>();
 
     private List<GrpcServerPin> server = new ArrayList<>();
 
+    private volatile Map<String, GrpcClientPin> clientIndex;
+
+    private volatile Map<String, GrpcServerPin> serverIndex;
+
     public List<GrpcClientPin> getClient() {
         return client;
     }
@@ -32,18 +39,21 @@ public final class GrpcSection {
         return server;
     }
 
-    private <T extends Th2Pin> T getPin(List<T> pins, String name) {
-        return pins.stream()
-                .filter(p -> p.getName().equals(name))
-                .findFirst()
-                .orElse(null);
-    }
-
     public GrpcClientPin getClientPin(String name) {
-        return getPin(getClient(), name);
+        Map<String, GrpcClientPin> index = clientIndex;
+        if (index == null) {
+            index = indexPins(client);
+            clientIndex = index;
+        }
+        return index.get(name);
     }
 
     public GrpcServerPin getServerPin(String name) {
-        return getPin(getServer(), name);
+        Map<String, GrpcServerPin> index = serverIndex;
+        if (index == null) {
+            index = indexPins(server);
+            serverIndex = index;
+        }
+        return index.get(name);
     }
 }
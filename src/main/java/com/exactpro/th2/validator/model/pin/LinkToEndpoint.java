@@ -16,6 +16,7 @@
 
 package com.exactpro.th2.validator.model.pin;
 
+import com.exactpro.th2.validator.model.link.LinkKey;
 import com.exactpro.th2.validator.model.link.LinkMeta;
 
 import java.util.Objects;
@@ -25,8 +26,6 @@ public final class LinkToEndpoint {
 
     private String pin;
 
-    private static final String CONTENT_TEMPLATE = "FROM %s:%s TO %s:%s";
-
     public LinkToEndpoint() {}
 
     public LinkToEndpoint(String box, String pin) {
@@ -42,16 +41,22 @@ public final class LinkToEndpoint {
         return pin;
     }
 
+    /**
+     * @deprecated use {@link com.exactpro.th2.validator.model.link.MessageLink#getKey()}.
+     * Will be removed in the next release.
+     */
+    @Deprecated
     public LinkMeta grpcLinkMetaData(String fromBoxName, String fromPinName) {
-        return new LinkMeta(fromBoxName, String.format(CONTENT_TEMPLATE,
-                fromBoxName, fromPinName,
-                box, pin));
+        return new LinkMeta(fromBoxName, new LinkKey(fromBoxName, fromPinName, box, pin).render());
     }
 
+    /**
+     * @deprecated use {@link com.exactpro.th2.validator.model.link.MessageLink#getKey()}.
+     * Will be removed in the next release.
+     */
+    @Deprecated
     public LinkMeta mqLinkMetaData(String toBoxName, String toPinName) {
-        return new LinkMeta(toBoxName, String.format(CONTENT_TEMPLATE,
-                box, pin,
-                toBoxName, toPinName));
+        return new LinkMeta(toBoxName, new LinkKey(box, pin, toBoxName, toPinName).render());
     }
 
     @Override
@@ -16,6 +16,7 @@
 
 package com.exactpro.th2.validator.model.pin;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import java.util.ArrayList;
@@ -28,6 +29,9 @@ public class MqPin implements Th2Pin {
 
     private List<String> attributes = new ArrayList<>();
 
+    @JsonIgnore
+    private volatile PinAttributes pinAttributes;
+
     @Override
     public String getName() {
         return name;
@@ -36,4 +40,17 @@ public class MqPin implements Th2Pin {
     public List<String> getAttributes() {
         return attributes;
     }
+
+    /**
+     * @return attributes classified on the first call, further changes of the attributes aren't reflected
+     */
+    @JsonIgnore
+    public PinAttributes getPinAttributes() {
+        PinAttributes result = pinAttributes;
+        if (result == null) {
+            result = new PinAttributes(attributes);
+            pinAttributes = result;
+        }
+        return result;
+    }
 }
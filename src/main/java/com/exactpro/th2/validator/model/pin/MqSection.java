@@ -18,12 +18,17 @@ package com.exactpro.th2.validator.model.pin;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+
+import static com.exactpro.th2.validator.model.pin.PinIndex.indexPins;
 
 public final class MqSection {
     private List<MqSubscriberPin> subscribers = new ArrayList<>();
 
     private List<MqPublisherPin> publishers = new ArrayList<>();
 
+    private volatile Map<String, MqPin> pinIndex;
+
     public List<MqSubscriberPin> getSubscribers() {
         return subscribers;
     }
@@ -32,19 +37,13 @@ public final class MqSection {
         return publishers;
     }
 
-    private <T extends MqPin> T getPin(List<T> pins, String name) {
-        return pins.stream()
-                .filter(p -> p.getName().equals(name))
-                .findFirst()
-                .orElse(null);
-    }
-
     public MqPin getPin(String name) {
-        MqSubscriberPin subscriber = getPin(subscribers, name);
-        if (subscriber != null) {
-            return subscriber;
+        Map<String, MqPin> index = pinIndex;
+        if (index == null) {
+            // subscribers take precedence over publishers with the same name
+            index = indexPins(subscribers, publishers);
+            pinIndex = index;
         }
-
-        return getPin(publishers, name);
+        return index.get(name);
     }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.model.pin;
+
+import com.exactpro.th2.validator.links.enums.DirectionAttribute;
+import com.exactpro.th2.validator.links.enums.MessageFormatAttribute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Attributes of a pin classified once into bit masks,
+ * one bit per {@link MessageFormatAttribute} or {@link DirectionAttribute}.
+ * An attribute belongs to a message format if it starts with the prefix of the format.
+ * Attributes which are neither a direction nor exactly a format prefix are kept as custom ones.
+ */
+public final class PinAttributes {
+
+    private static final MessageFormatAttribute[] FORMATS = MessageFormatAttribute.values();
+
+    private final List<String> attributes;
+
+    private final int formatMask;
+
+    private final int duplicateFormatMask;
+
+    private final int exactFormatMask;
+
+    private final int directionMask;
+
+    private final String[] firstFormatAttributes = new String[FORMATS.length];
+
+    private final Set<String> customAttributes = new HashSet<>();
+
+    PinAttributes(List<String> attributes) {
+        this.attributes = attributes != null ? attributes : List.of();
+        int formats = 0;
+        int duplicates = 0;
+        int exact = 0;
+        int directions = 0;
+        for (String attribute : this.attributes) {
+            boolean custom = true;
+            for (var format : FORMATS) {
+                if (attribute.startsWith(format.getPrefix())) {
+                    int bit = bit(format);
+                    if ((formats & bit) == 0) {
+                        formats |= bit;
+                        firstFormatAttributes[format.ordinal()] = attribute;
+                    } else {
+                        duplicates |= bit;
+                    }
+                    if (attribute.length() == format.getPrefix().length()) {
+                        exact |= bit;
+                        custom = false;
+                    }
+                }
+            }
+            for (var direction : DirectionAttribute.values()) {
+                if (attribute.equals(direction.name())) {
+                    directions |= 1 << direction.ordinal();
+                    custom = false;
+                }
+            }
+            if (custom) {
+                customAttributes.add(attribute);
+            }
+        }
+        this.formatMask = formats;
+        this.duplicateFormatMask = duplicates;
+        this.exactFormatMask = exact;
+        this.directionMask = directions;
+    }
+
+    public static int bit(MessageFormatAttribute format) {
+        return 1 << format.ordinal();
+    }
+
+    public static int mask(Collection<MessageFormatAttribute> formats) {
+        int mask = 0;
+        for (var format : formats) {
+            mask |= bit(format);
+        }
+        return mask;
+    }
+
+    public boolean hasFormat(MessageFormatAttribute format) {
+        return (formatMask & bit(format)) != 0;
+    }
+
+    public boolean hasAnyFormat(int mask) {
+        return (formatMask & mask) != 0;
+    }
+
+    /**
+     * @return true if more than one attribute has the prefix of the format
+     */
+    public boolean hasDuplicates(MessageFormatAttribute format) {
+        return (duplicateFormatMask & bit(format)) != 0;
+    }
+
+    /**
+     * @return first attribute with the prefix of the format or null if there is no such attribute
+     */
+    public String firstAttribute(MessageFormatAttribute format) {
+        return firstFormatAttributes[format.ordinal()];
+    }
+
+    public boolean hasDirection(DirectionAttribute direction) {
+        return (directionMask & (1 << direction.ordinal())) != 0;
+    }
+
+    public boolean contains(String attribute) {
+        for (var format : FORMATS) {
+            if (format.getPrefix().equals(attribute)) {
+                return (exactFormatMask & bit(format)) != 0;
+            }
+        }
+        for (var direction : DirectionAttribute.values()) {
+            if (direction.name().equals(attribute)) {
+                return hasDirection(direction);
+            }
+        }
+        return customAttributes.contains(attribute);
+    }
+
+    /**
+     * @return all attributes with the prefix of the format, in the declaration order
+     */
+    public List<String> withPrefix(MessageFormatAttribute format) {
+        List<String> result = new ArrayList<>();
+        if (hasFormat(format)) {
+            for (String attribute : attributes) {
+                if (attribute.startsWith(format.getPrefix())) {
+                    result.add(attribute);
+                }
+            }
+        }
+        return result;
+    }
+
+    public Set<String> getCustomAttributes() {
+        return customAttributes;
+    }
+}
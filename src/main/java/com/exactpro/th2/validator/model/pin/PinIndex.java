@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.model.pin;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class PinIndex {
+    private PinIndex() {}
+
+    /**
+     * Maps pin names to pins. When several pins share the name, the first one wins,
+     * following the order of the lists and of the pins within a list.
+     */
+    @SafeVarargs
+    static <T extends Th2Pin> Map<String, T> indexPins(List<? extends T>... sections) {
+        Map<String, T> index = new HashMap<>();
+        for (List<? extends T> pins : sections) {
+            if (pins == null) {
+                continue;
+            }
+            for (T pin : pins) {
+                if (pin.getName() != null) {
+                    index.putIfAbsent(pin.getName(), pin);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+}
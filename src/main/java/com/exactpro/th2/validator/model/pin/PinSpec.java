@@ -16,11 +16,17 @@
 
 package com.exactpro.th2.validator.model.pin;
 
+import java.util.Map;
+
+import static com.exactpro.th2.validator.model.pin.PinIndex.indexPins;
+
 public class PinSpec {
     private MqSection mq = new MqSection();
 
     private GrpcSection grpc = new GrpcSection();
 
+    private volatile Map<String, Th2Pin> pinIndex;
+
     public MqSection getMq() {
         return mq;
     }
@@ -28,4 +34,19 @@ public class PinSpec {
     public GrpcSection getGrpc() {
         return grpc;
     }
+
+    public Th2Pin getPin(String name) {
+        Map<String, Th2Pin> index = pinIndex;
+        if (index == null) {
+            // the order defines which pin is returned when pins of different types share the name
+            index = indexPins(
+                    mq.getSubscribers(),
+                    mq.getPublishers(),
+                    grpc.getClient(),
+                    grpc.getServer()
+            );
+            pinIndex = index;
+        }
+        return index.get(name);
+    }
 }
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.secrets;
+
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.exactpro.th2.validator.util.SecretsUtils.DEFAULT_SECRET_NAME;
+
+/**
+ * Keeps the namespaces and their "secret-custom-config" secrets in memory.
+ * Both are watched by informers which are started on the first lookup of the namespace,
+ * so subsequent lookups don't call the Kubernetes API and see changes as soon as the events arrive.
+ * Informers of a namespace which wasn't looked up during the idle timeout are stopped.
+ * <p>
+ * Informers need {@code list} and {@code watch} permissions on the cluster-scoped {@code namespaces}
+ * and on {@code secrets} of the schema namespaces. If the API server refuses them, the source falls back
+ * to {@code get} of the namespace and of the secret on every lookup, which needs only the {@code get} permission.
+ * The refusal is remembered per namespace and informers are tried again after {@link #REFUSAL_RETRY_INTERVAL}.
+ */
+public final class KubernetesSecretsSource implements SecretsSource, Closeable {
+
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    public static final Duration REFUSAL_RETRY_INTERVAL = Duration.ofMinutes(5);
+
+    private static final Logger logger = LoggerFactory.getLogger(KubernetesSecretsSource.class);
+
+    private static volatile KubernetesSecretsSource shared;
+
+    private final KubernetesClient kubernetesClient;
+
+    private final boolean ownsClient;
+
+    private final long idleTimeoutNanos;
+
+    private final Map<String, NamespaceEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * namespaces where the API server refused to list or watch, mapped to the {@link System#nanoTime()}
+     * after which informers are tried again. Until then lookups of the namespace use plain {@code get}
+     */
+    private final Map<String, Long> refusedUntil = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean refusalLogged = new AtomicBoolean();
+
+    public KubernetesSecretsSource(KubernetesClient kubernetesClient) {
+        this(kubernetesClient, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * @param idleTimeout time after the last lookup of a namespace when its informers are stopped
+     */
+    public KubernetesSecretsSource(KubernetesClient kubernetesClient, Duration idleTimeout) {
+        this(kubernetesClient, idleTimeout, false);
+    }
+
+    private KubernetesSecretsSource(KubernetesClient kubernetesClient, Duration idleTimeout, boolean ownsClient) {
+        this.kubernetesClient = kubernetesClient;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.ownsClient = ownsClient;
+    }
+
+    /**
+     * @return source shared by the whole process, with the client configured from the environment
+     */
+    public static KubernetesSecretsSource shared() {
+        KubernetesSecretsSource source = shared;
+        if (source == null) {
+            synchronized (KubernetesSecretsSource.class) {
+                source = shared;
+                if (source == null) {
+                    source = new KubernetesSecretsSource(new KubernetesClientBuilder().build(),
+                            DEFAULT_IDLE_TIMEOUT, true);
+                    shared = source;
+                }
+            }
+        }
+        return source;
+    }
+
+    @Override
+    public boolean namespaceExists(String namespace) {
+        NamespaceInformers namespaceInformers = informers(namespace);
+        if (namespaceInformers == null) {
+            return kubernetesClient.namespaces().withName(namespace).get() != null;
+        }
+        return !namespaceInformers.namespace.getStore().list().isEmpty();
+    }
+
+    @Override
+    public Set<String> getCustomSecretKeys(String namespace) {
+        Secret secret = getCustomSecret(namespace);
+        if (secret == null) {
+            return null;
+        }
+        Map<String, String> data = secret.getData();
+        return data == null ? Set.of() : Set.copyOf(data.keySet());
+    }
+
+    /**
+     * @return "secret-custom-config" secret of the namespace, or null if there is no such secret
+     */
+    public Secret getCustomSecret(String namespace) {
+        NamespaceInformers namespaceInformers = informers(namespace);
+        if (namespaceInformers == null) {
+            return kubernetesClient.secrets().inNamespace(namespace).withName(DEFAULT_SECRET_NAME).get();
+        }
+        List<Secret> secrets = namespaceInformers.secret.getStore().list();
+        return secrets.isEmpty() ? null : secrets.get(0);
+    }
+
+    @Override
+    public void close() {
+        entries.values().forEach(NamespaceEntry::stop);
+        entries.clear();
+        if (ownsClient) {
+            kubernetesClient.close();
+        }
+    }
+
+    /**
+     * @return namespaces whose informers are started or starting
+     */
+    Set<String> informedNamespaces() {
+        return Set.copyOf(entries.keySet());
+    }
+
+    /**
+     * @return informers of the namespace, or null if the API server doesn't allow to watch
+     */
+    private NamespaceInformers informers(String namespace) {
+        evictIdle();
+        Long retryAfter = refusedUntil.get(namespace);
+        if (retryAfter != null) {
+            if (System.nanoTime() - retryAfter < 0) {
+                return null;
+            }
+            refusedUntil.remove(namespace, retryAfter);
+        }
+        NamespaceEntry entry = entries.get(namespace);
+        if (entry == null) {
+            var created = new NamespaceEntry();
+            entry = entries.putIfAbsent(namespace, created);
+            if (entry == null) {
+                entry = created;
+                // informers are started outside of the map, other lookups of the namespace wait for the future
+                start(namespace, created);
+            }
+        }
+        entry.lastAccess = System.nanoTime();
+        try {
+            return entry.informers.join();
+        } catch (CompletionException e) {
+            if (isRefused(e.getCause())) {
+                return null;
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void start(String namespace, NamespaceEntry entry) {
+        try {
+            entry.informers.complete(inform(namespace));
+        } catch (RuntimeException e) {
+            entries.remove(namespace, entry);
+            if (isRefused(e)) {
+                refusedUntil.put(namespace, System.nanoTime() + REFUSAL_RETRY_INTERVAL.toNanos());
+                if (refusalLogged.compareAndSet(false, true)) {
+                    logger.warn("Kubernetes API refused to watch namespace \"{}\", namespaces and secrets "
+                            + "will be requested on every lookup. Grant list and watch on namespaces "
+                            + "and on secrets of the schema namespaces to watch them", namespace, e);
+                } else {
+                    logger.debug("Kubernetes API refused to watch namespace \"{}\", retrying in {}",
+                            namespace, REFUSAL_RETRY_INTERVAL);
+                }
+            }
+            entry.informers.completeExceptionally(e);
+        }
+    }
+
+    private void evictIdle() {
+        long now = System.nanoTime();
+        entries.forEach((namespace, entry) -> {
+            if (now - entry.lastAccess >= idleTimeoutNanos && entries.remove(namespace, entry)) {
+                logger.info("Stopping informers of idle namespace \"{}\"", namespace);
+                entry.stop();
+            }
+        });
+        refusedUntil.values().removeIf(retryAfter -> now - retryAfter >= 0);
+    }
+
+    private static boolean isRefused(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof KubernetesClientException) {
+                int code = ((KubernetesClientException) cause).getCode();
+                if (code == 401 || code == 403) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * starts informers of the namespace and its secret, returns when their caches are filled
+     */
+    private NamespaceInformers inform(String namespace) {
+        logger.info("Starting informers of namespace \"{}\" and its secret \"{}\"", namespace, DEFAULT_SECRET_NAME);
+        SharedIndexInformer<Namespace> namespaceInformer = kubernetesClient.namespaces()
+                .withName(namespace)
+                .inform();
+        try {
+            SharedIndexInformer<Secret> secretInformer = kubernetesClient.secrets()
+                    .inNamespace(namespace)
+                    .withName(DEFAULT_SECRET_NAME)
+                    .inform();
+            return new NamespaceInformers(namespaceInformer, secretInformer);
+        } catch (RuntimeException e) {
+            namespaceInformer.stop();
+            throw e;
+        }
+    }
+
+    private static final class NamespaceEntry {
+
+        private final CompletableFuture<NamespaceInformers> informers = new CompletableFuture<>();
+
+        private volatile long lastAccess = System.nanoTime();
+
+        private void stop() {
+            informers.thenAccept(NamespaceInformers::stop);
+        }
+    }
+
+    private static final class NamespaceInformers {
+
+        private final SharedIndexInformer<Namespace> namespace;
+
+        private final SharedIndexInformer<Secret> secret;
+
+        private NamespaceInformers(SharedIndexInformer<Namespace> namespace, SharedIndexInformer<Secret> secret) {
+            this.namespace = namespace;
+            this.secret = secret;
+        }
+
+        private void stop() {
+            namespace.stop();
+            secret.stop();
+        }
+    }
+}
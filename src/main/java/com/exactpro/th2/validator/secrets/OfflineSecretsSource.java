@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.secrets;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.exactpro.th2.validator.util.MapperUtils.YAML_MAPPER;
+
+/**
+ * Namespaces and keys of their "secret-custom-config" secrets loaded from a file, for validation without a cluster.
+ * The file lists keys of the secret of every namespace, a namespace without keys has no secret:
+ * <pre>
+ * namespaces:
+ *   th2-schema:
+ *     - user
+ *     - password
+ *   th2-other:
+ * </pre>
+ */
+public final class OfflineSecretsSource implements SecretsSource {
+
+    private final Map<String, Set<String>> namespaces;
+
+    /**
+     * @param namespaces keys of the secret of every namespace, null if the namespace has no secret
+     */
+    public OfflineSecretsSource(Map<String, ? extends Collection<String>> namespaces) {
+        Map<String, Set<String>> copy = new HashMap<>();
+        namespaces.forEach((namespace, keys) -> copy.put(namespace, keys == null ? null : Set.copyOf(keys)));
+        this.namespaces = Collections.unmodifiableMap(copy);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static OfflineSecretsSource load(Path path) throws IOException {
+        Map<String, Object> content = YAML_MAPPER.readValue(path.toFile(), Map.class);
+        Map<String, List<String>> namespaces = YAML_MAPPER.convertValue(
+                content == null ? null : content.get("namespaces"),
+                new TypeReference<Map<String, List<String>>>() {
+                }
+        );
+        return new OfflineSecretsSource(namespaces == null ? Map.of() : namespaces);
+    }
+
+    @Override
+    public boolean namespaceExists(String namespace) {
+        return namespaces.containsKey(namespace);
+    }
+
+    @Override
+    public Set<String> getCustomSecretKeys(String namespace) {
+        return namespaces.get(namespace);
+    }
+}
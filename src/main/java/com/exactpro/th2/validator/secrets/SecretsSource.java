@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.secrets;
+
+import java.util.Set;
+
+/**
+ * Source of the namespaces and keys of "secret-custom-config" secrets which are referenced by custom configs.
+ */
+public interface SecretsSource {
+
+    boolean namespaceExists(String namespace);
+
+    /**
+     * @return keys of "secret-custom-config" secret in the namespace, or null if there is no such secret
+     */
+    Set<String> getCustomSecretKeys(String namespace);
+}
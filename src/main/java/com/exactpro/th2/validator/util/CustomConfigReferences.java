@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.util;
+
+import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * References to other resources and secrets found in the custom config of a box.
+ * All kinds of references are collected in a single iterative traversal of the config,
+ * so deeply nested configs don't overflow the stack.
+ */
+public final class CustomConfigReferences {
+
+    public static final String SECRET_VALUE = "secret_value";
+
+    public static final String SECRET_PATH = "secret_path";
+
+    private static final String[] PLACEHOLDER_PREFIXES = {SECRET_VALUE, SECRET_PATH};
+
+    private static final PlaceholderScanner SCANNER = new PlaceholderScanner(PLACEHOLDER_PREFIXES);
+
+    private static final String DICTIONARY_LINK_START = "${dictionary_link:";
+
+    private static final String DICTIONARY_LINK_END = "}";
+
+    public static final CustomConfigReferences EMPTY = new CustomConfigReferences(
+            Collections.emptySet(), Collections.emptyMap());
+
+    private final Set<String> dictionaryNames;
+
+    private final Map<String, Set<String>> placeholderKeys;
+
+    private CustomConfigReferences(Set<String> dictionaryNames, Map<String, Set<String>> placeholderKeys) {
+        this.dictionaryNames = dictionaryNames;
+        this.placeholderKeys = placeholderKeys;
+    }
+
+    /**
+     * @return references of every box which has a custom config, by the name of the box
+     */
+    public static Map<String, CustomConfigReferences> index(Map<String, RepositoryResource> boxesMap) {
+        Map<String, CustomConfigReferences> references = new HashMap<>();
+        for (var entry : boxesMap.entrySet()) {
+            Map<String, Object> customConfig = SecretsUtils.extractCustomConfig(entry.getValue());
+            if (customConfig != null) {
+                references.put(entry.getKey(), collect(customConfig));
+            }
+        }
+        return Collections.unmodifiableMap(references);
+    }
+
+    /**
+     * Dictionary links are recognized only as whole values of map entries which aren't nested into lists,
+     * placeholders are searched for in all string values, including the elements of lists.
+     */
+    @SuppressWarnings("unchecked")
+    public static CustomConfigReferences collect(Map<String, Object> customConfig) {
+        if (customConfig == null) {
+            return EMPTY;
+        }
+        Set<String> dictionaryNames = new HashSet<>();
+        Map<String, Set<String>> placeholderKeys = new HashMap<>();
+        PlaceholderScanner.Listener listener = (prefix, key) ->
+                placeholderKeys.computeIfAbsent(prefix, p -> new HashSet<>()).add(key);
+
+        /*
+         * iterators of the maps and lists which are being traversed,
+         * the flag is true for maps which are reached through maps only
+         */
+        Deque<Iterator<?>> iterators = new ArrayDeque<>();
+        Deque<Boolean> mapFlags = new ArrayDeque<>();
+        iterators.push(customConfig.values().iterator());
+        mapFlags.push(Boolean.TRUE);
+        while (!iterators.isEmpty()) {
+            Iterator<?> iterator = iterators.peek();
+            if (!iterator.hasNext()) {
+                iterators.pop();
+                mapFlags.pop();
+                continue;
+            }
+            Object value = iterator.next();
+            if (value instanceof String) {
+                String valueStr = (String) value;
+                if (mapFlags.peek() && isDictionaryLink(valueStr)) {
+                    dictionaryNames.add(valueStr.substring(
+                            DICTIONARY_LINK_START.length(), valueStr.length() - DICTIONARY_LINK_END.length()));
+                }
+                SCANNER.scan(valueStr, listener);
+            } else if (value instanceof Map) {
+                iterators.push(((Map<String, Object>) value).values().iterator());
+                mapFlags.push(mapFlags.peek());
+            } else if (value instanceof Collection) {
+                iterators.push(((Collection<?>) value).iterator());
+                mapFlags.push(Boolean.FALSE);
+            }
+        }
+        if (dictionaryNames.isEmpty() && placeholderKeys.isEmpty()) {
+            return EMPTY;
+        }
+        return new CustomConfigReferences(dictionaryNames, placeholderKeys);
+    }
+
+    private static boolean isDictionaryLink(String value) {
+        return value.startsWith(DICTIONARY_LINK_START) && value.endsWith(DICTIONARY_LINK_END);
+    }
+
+    /**
+     * @return names of the dictionaries referenced by {@code ${dictionary_link:name}} values
+     */
+    public Set<String> getDictionaryNames() {
+        return Collections.unmodifiableSet(dictionaryNames);
+    }
+
+    /**
+     * @param prefix prefix of the placeholder, e.g. {@link #SECRET_VALUE}
+     * @return keys of the placeholders with the given prefix
+     */
+    public Set<String> getPlaceholderKeys(String prefix) {
+        return Collections.unmodifiableSet(placeholderKeys.getOrDefault(prefix, Collections.emptySet()));
+    }
+
+    /**
+     * @return keys of all {@code ${secret_value:key}} and {@code ${secret_path:key}} placeholders
+     */
+    public Set<String> getSecretKeys() {
+        Set<String> secretKeys = new HashSet<>(getPlaceholderKeys(SECRET_VALUE));
+        secretKeys.addAll(getPlaceholderKeys(SECRET_PATH));
+        return secretKeys;
+    }
+}
@@ -17,7 +17,10 @@
 package com.exactpro.th2.validator.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 
 public class MapperUtils {
     public static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static final ObjectMapper YAML_MAPPER = new YAMLMapper();
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.util;
+
+/**
+ * Finds placeholders like {@code ${secret_value:key}} in a string in a single pass without building new strings,
+ * except for the keys of the placeholders which are reported to the listener.
+ * Follows the syntax of the commons-text interpolation which resolves the placeholders in the end:
+ * <ul>
+ *     <li>prefixes are matched ignoring case,</li>
+ *     <li>{@code $${...}} is an escaped placeholder and is skipped,</li>
+ *     <li>default value after {@code :-} is not a part of the key,</li>
+ *     <li>nested placeholders are a part of the key of the outer placeholder.</li>
+ * </ul>
+ */
+public final class PlaceholderScanner {
+
+    private static final String START = "${";
+
+    private static final char END = '}';
+
+    private static final char ESCAPE = '$';
+
+    private static final char PREFIX_SEPARATOR = ':';
+
+    private static final String DEFAULT_SEPARATOR = ":-";
+
+    public interface Listener {
+        /**
+         * @param prefix one of the prefixes the scanner was created with
+         */
+        void onPlaceholder(String prefix, String key);
+    }
+
+    private final String[] prefixes;
+
+    public PlaceholderScanner(String... prefixes) {
+        this.prefixes = prefixes.clone();
+    }
+
+    public void scan(String value, Listener listener) {
+        int length = value.length();
+        int position = 0;
+        while (position < length) {
+            int start = value.indexOf(START, position);
+            if (start < 0) {
+                return;
+            }
+            if (start > 0 && value.charAt(start - 1) == ESCAPE) {
+                position = start + START.length();
+                continue;
+            }
+            int nameStart = start + START.length();
+            int end = findEnd(value, nameStart);
+            if (end < 0) {
+                return;
+            }
+            int nameEnd = indexOf(value, DEFAULT_SEPARATOR, nameStart, end);
+            if (nameEnd < 0) {
+                nameEnd = end;
+            }
+            int separator = indexOf(value, PREFIX_SEPARATOR, nameStart, nameEnd);
+            if (separator >= 0) {
+                String prefix = matchPrefix(value, nameStart, separator - nameStart);
+                if (prefix != null) {
+                    listener.onPlaceholder(prefix, value.substring(separator + 1, nameEnd));
+                }
+            }
+            position = end + 1;
+        }
+    }
+
+    /**
+     * @return index of the end of the placeholder whose name starts at the given index, -1 if it isn't closed
+     */
+    private static int findEnd(String value, int nameStart) {
+        int depth = 1;
+        int length = value.length();
+        for (int i = nameStart; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == END) {
+                if (--depth == 0) {
+                    return i;
+                }
+            } else if (c == START.charAt(0) && value.startsWith(START, i)) {
+                depth++;
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return index of the first occurrence of the string which ends before the given bound, or -1
+     */
+    private static int indexOf(String value, String str, int from, int to) {
+        int last = to - str.length();
+        for (int i = from; i <= last; i++) {
+            if (value.startsWith(str, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(String value, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (value.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private String matchPrefix(String value, int start, int length) {
+        for (String prefix : prefixes) {
+            if (prefix.length() == length && value.regionMatches(true, start, prefix, 0, length)) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+}
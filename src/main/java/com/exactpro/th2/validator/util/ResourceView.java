@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.util;
+
+import com.exactpro.th2.infrarepo.ResourceType;
+import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only view of the resources of several kinds as a single map, without copying them.
+ * If resources of different kinds have the same name, the kind which comes later wins,
+ * the same as with {@link ResourceUtils#collectResources}.
+ * The view reflects the maps of the repository, they must not be changed while it's used.
+ */
+public final class ResourceView extends AbstractMap<String, RepositoryResource> {
+
+    private static final String[] BOX_KINDS = {
+            ResourceType.Th2Box.kind(),
+            ResourceType.Th2CoreBox.kind(),
+            ResourceType.Th2Job.kind(),
+            ResourceType.Th2Mstore.kind(),
+            ResourceType.Th2Estore.kind()
+    };
+
+    private final List<Map<String, RepositoryResource>> kinds;
+
+    private Set<Entry<String, RepositoryResource>> entrySet;
+
+    private int size = -1;
+
+    private ResourceView(List<Map<String, RepositoryResource>> kinds) {
+        this.kinds = kinds;
+    }
+
+    public static ResourceView of(Map<String, Map<String, RepositoryResource>> repositoryMap, String... kinds) {
+        List<Map<String, RepositoryResource>> maps = new ArrayList<>(kinds.length);
+        for (String kind : kinds) {
+            Map<String, RepositoryResource> resources = repositoryMap.get(kind);
+            if (resources != null && !resources.isEmpty()) {
+                maps.add(resources);
+            }
+        }
+        return new ResourceView(List.copyOf(maps));
+    }
+
+    /**
+     * @return view of all kinds of boxes: Th2Box, Th2CoreBox, Th2Job, Th2Mstore and Th2Estore
+     */
+    public static ResourceView boxes(Map<String, Map<String, RepositoryResource>> repositoryMap) {
+        return of(repositoryMap, BOX_KINDS);
+    }
+
+    @Override
+    public RepositoryResource get(Object key) {
+        // underlying maps may reject null keys, e.g. a linkTo entry without a box
+        if (key == null) {
+            return null;
+        }
+        for (int i = kinds.size() - 1; i >= 0; i--) {
+            RepositoryResource resource = kinds.get(i).get(key);
+            if (resource != null) {
+                return resource;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        if (size < 0) {
+            int count = 0;
+            for (var ignored : entrySet()) {
+                count++;
+            }
+            size = count;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return kinds.isEmpty();
+    }
+
+    @Override
+    public Set<Entry<String, RepositoryResource>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, RepositoryResource>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return ResourceView.this.size();
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    /**
+     * skips resources which are shadowed by the resources of the same name of a later kind
+     */
+    private final class EntryIterator implements Iterator<Entry<String, RepositoryResource>> {
+
+        private int kind;
+
+        private Iterator<Entry<String, RepositoryResource>> current;
+
+        private Entry<String, RepositoryResource> next;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (current == null || !current.hasNext()) {
+                    if (kind == kinds.size()) {
+                        return false;
+                    }
+                    current = kinds.get(kind++).entrySet().iterator();
+                    continue;
+                }
+                var entry = current.next();
+                if (!shadowed(entry.getKey())) {
+                    next = entry;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Entry<String, RepositoryResource> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var entry = next;
+            next = null;
+            return new SimpleImmutableEntry<>(entry);
+        }
+
+        private boolean shadowed(String key) {
+            for (int i = kind; i < kinds.size(); i++) {
+                if (kinds.get(i).containsKey(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
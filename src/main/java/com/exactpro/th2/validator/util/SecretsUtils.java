@@ -17,15 +17,9 @@
 package com.exactpro.th2.validator.util;
 
 import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.exactpro.th2.validator.secrets.KubernetesSecretsSource;
 import io.fabric8.kubernetes.api.model.Secret;
-import io.fabric8.kubernetes.client.DefaultKubernetesClient;
-import io.fabric8.kubernetes.client.KubernetesClient;
-import org.apache.commons.text.StringSubstitutor;
-import org.apache.commons.text.lookup.StringLookup;
-import org.apache.commons.text.lookup.StringLookupFactory;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,15 +32,11 @@ public class SecretsUtils {
     private SecretsUtils() {}
 
     public static Secret getCustomSecret(String namespace) {
-        KubernetesClient kubernetesClient = new DefaultKubernetesClient();
-        return kubernetesClient.secrets()
-                .inNamespace(namespace)
-                .withName(DEFAULT_SECRET_NAME).get();
+        return KubernetesSecretsSource.shared().getCustomSecret(namespace);
     }
 
     public static boolean namespaceNotPresent(String namespace) {
-        KubernetesClient kubernetesClient = new DefaultKubernetesClient();
-        return kubernetesClient.namespaces().withName(namespace).get() == null;
+        return !KubernetesSecretsSource.shared().namespaceExists(namespace);
     }
 
     public static Map<String, Object> extractCustomConfig(RepositoryResource resource) {
@@ -55,42 +45,11 @@ public class SecretsUtils {
         return getSection(spec, customConfigAlias);
     }
 
+    /**
+     * @return keys of all {@code ${secret_value:key}} and {@code ${secret_path:key}} placeholders
+     * in the string values of the config, including the values in nested maps and lists
+     */
     public static Set<String> generateSecretsConfig(Map<String, Object> customConfig) {
-        Set<String> collector = new HashSet<>();
-        CustomLookup customLookup = new CustomLookup(collector);
-        StringSubstitutor stringSubstitutor = new StringSubstitutor(
-                StringLookupFactory.INSTANCE.interpolatorStringLookup(
-                        Map.of("secret_value", customLookup,
-                                "secret_path", customLookup
-                        ), null, false
-                ));
-        if (customConfig == null) {
-            return Collections.emptySet();
-        }
-        for (var entry : customConfig.entrySet()) {
-            var value = entry.getValue();
-            if (value instanceof String) {
-                String valueStr = (String) value;
-                stringSubstitutor.replace(valueStr);
-            } else if (value instanceof Map) {
-                collector.addAll(generateSecretsConfig((Map<String, Object>) value));
-            }
-        }
-        return collector;
-    }
-
-    static class CustomLookup implements StringLookup {
-
-        private Set<String> collector;
-
-        public CustomLookup(Set<String> collector) {
-            this.collector = collector;
-        }
-
-        @Override
-        public String lookup(String key) {
-            collector.add(key);
-            return null;
-        }
+        return CustomConfigReferences.collect(customConfig).getSecretKeys();
     }
 }
@@ -16,23 +16,65 @@
 
 package com.exactpro.th2.validator.util;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
+import static com.exactpro.th2.validator.util.MapperUtils.MAPPER;
+
 public class SourceHashUtil {
     private SourceHashUtil() {}
 
-    public static String digest(String data) {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] digest = md.digest(data.getBytes());
-            StringBuilder sb = new StringBuilder();
-            for (byte b : digest) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException(e);
         }
+    });
+
+    public static String digest(String data) {
+        MessageDigest md = DIGEST.get();
+        md.reset();
+        return toHex(md.digest(data.getBytes()));
+    }
+
+    /**
+     * Same as {@code digest(MAPPER.writeValueAsString(value))} for UTF-8 platforms,
+     * but the JSON is streamed into the digest instead of being built as a string.
+     */
+    public static String digestJson(Object value) throws JsonProcessingException {
+        return digestJson(MAPPER, value);
+    }
+
+    public static String digestJson(ObjectMapper mapper, Object value) throws JsonProcessingException {
+        MessageDigest md = DIGEST.get();
+        md.reset();
+        try (var out = new DigestOutputStream(OutputStream.nullOutputStream(), md)) {
+            mapper.writeValue(out, value);
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            // the stream doesn't write anywhere, so only serialization can fail
+            throw new UncheckedIOException(e);
+        }
+        return toHex(md.digest());
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            hex[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(hex);
     }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Url paths of resources arranged by their segments, e.g. "/th2-foo/api" is stored under "th2-foo" -> "api".
+ * Empty segments are skipped, so "/a", "a/" and "/a/" are stored in the same node.
+ * A path overlaps with another one if all segments of the other path are its leading segments.
+ * The root path "/" has no segments and doesn't overlap with other paths.
+ */
+public final class UrlPathTrie {
+
+    private static final Node NO_PREFIX = new Node();
+
+    private final Node root = new Node();
+
+    public void add(String urlPath, String owner) {
+        Node node = root;
+        for (String segment : urlPath.split("/")) {
+            if (!segment.isEmpty()) {
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+        node.paths.add(new OwnedPath(urlPath, owner));
+    }
+
+    /**
+     * Paths which are equal strings are not reported, they are expected to be detected by exact comparison.
+     *
+     * @return pairs of different paths of different resources which are stored in the same node,
+     * the path added earlier goes first
+     */
+    public List<UrlPathPair> findConflicts() {
+        List<UrlPathPair> conflicts = new ArrayList<>();
+        Deque<Node> nodes = new ArrayDeque<>();
+        nodes.push(root);
+        while (!nodes.isEmpty()) {
+            Node node = nodes.pop();
+            for (int i = 0; i < node.paths.size(); i++) {
+                OwnedPath path = node.paths.get(i);
+                for (int j = i + 1; j < node.paths.size(); j++) {
+                    OwnedPath other = node.paths.get(j);
+                    if (!path.owner.equals(other.owner) && !path.path.equals(other.path)) {
+                        conflicts.add(new UrlPathPair(path.path, path.owner, other.path, other.owner));
+                    }
+                }
+            }
+            node.children.values().forEach(nodes::push);
+        }
+        return conflicts;
+    }
+
+    /**
+     * Visits every node once and pairs each path with the paths of its nearest ancestor node,
+     * so that a chain of nested paths is reported link by link instead of pair by pair.
+     *
+     * @return paths which are nested into the path of another resource, paired with the paths they are nested into
+     */
+    public List<UrlPathPair> findOverlaps() {
+        List<UrlPathPair> overlaps = new ArrayList<>();
+        Deque<Node> nodes = new ArrayDeque<>();
+        Deque<Node> prefixes = new ArrayDeque<>();
+        nodes.push(root);
+        // paths of the root node are not prefixes, so the root and its children start with no prefix
+        prefixes.push(NO_PREFIX);
+        while (!nodes.isEmpty()) {
+            Node node = nodes.pop();
+            Node prefix = prefixes.pop();
+            for (OwnedPath path : node.paths) {
+                for (OwnedPath prefixPath : prefix.paths) {
+                    if (!path.owner.equals(prefixPath.owner)) {
+                        overlaps.add(new UrlPathPair(path.path, path.owner, prefixPath.path, prefixPath.owner));
+                    }
+                }
+            }
+            Node childPrefix = node.paths.isEmpty() || node == root ? prefix : node;
+            for (Node child : node.children.values()) {
+                nodes.push(child);
+                prefixes.push(childPrefix);
+            }
+        }
+        return overlaps;
+    }
+
+    /**
+     * @return owners of the url paths which are stored in the same node as the given one,
+     * are its prefixes (except the root path) or are nested into it
+     */
+    public Set<String> overlappingOwners(String urlPath) {
+        Set<String> owners = new HashSet<>();
+        Node node = root;
+        for (String segment : urlPath.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (node != root) {
+                node.paths.forEach(path -> owners.add(path.owner));
+            }
+            node = node.children.get(segment);
+            if (node == null) {
+                return owners;
+            }
+        }
+        Deque<Node> nodes = new ArrayDeque<>();
+        nodes.push(node);
+        while (!nodes.isEmpty()) {
+            Node nested = nodes.pop();
+            nested.paths.forEach(path -> owners.add(path.owner));
+            nested.children.values().forEach(nodes::push);
+        }
+        return owners;
+    }
+
+    public static final class UrlPathPair {
+
+        private final String urlPath;
+
+        private final String owner;
+
+        private final String otherUrlPath;
+
+        private final String otherOwner;
+
+        private UrlPathPair(String urlPath, String owner, String otherUrlPath, String otherOwner) {
+            this.urlPath = urlPath;
+            this.owner = owner;
+            this.otherUrlPath = otherUrlPath;
+            this.otherOwner = otherOwner;
+        }
+
+        public String getUrlPath() {
+            return urlPath;
+        }
+
+        public String getOwner() {
+            return owner;
+        }
+
+        public String getOtherUrlPath() {
+            return otherUrlPath;
+        }
+
+        public String getOtherOwner() {
+            return otherOwner;
+        }
+    }
+
+    private static final class OwnedPath {
+
+        private final String path;
+
+        private final String owner;
+
+        private OwnedPath(String path, String owner) {
+            this.path = path;
+            this.owner = owner;
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        private final List<OwnedPath> paths = new ArrayList<>(1);
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator;
+
+import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.exactpro.th2.infrarepo.settings.RepositorySettingsResource;
+import com.exactpro.th2.validator.books.BookCheckMode;
+import com.exactpro.th2.validator.books.BookLookupCache;
+import com.exactpro.th2.validator.books.CircuitBreaker;
+import com.exactpro.th2.validator.books.OfflineBookCatalog;
+import com.exactpro.th2.validator.books.StorageServiceSettings;
+import com.exactpro.th2.validator.errormessages.BoxResourceErrorMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookNamesValidatorTests {
+    private static final String PATH = "src/test/resources/booksTest/";
+
+    private static final ObjectMapper mapper = new YAMLMapper();
+
+    private static final Set<String> EXISTING_PATHS = Set.of(
+            "/api/schema_keyspace",
+            "/api/schema_keyspace/books/demo_book"
+    );
+
+    private static final String BOOKS_PATH = "/api/schema_keyspace/books";
+
+    private static final String BOOKS = "[{\"name\": \"demo_book\"}, {\"name\": \"other_book\"}]";
+
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+
+    private HttpServer storageService;
+
+    @BeforeEach
+    void startStorageService() throws IOException {
+        storageService = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        storageService.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            requests.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+            if (path.equals(BOOKS_PATH)) {
+                byte[] body = BOOKS.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } else {
+                exchange.sendResponseHeaders(EXISTING_PATHS.contains(path) ? 200 : 404, -1);
+            }
+            exchange.close();
+        });
+        storageService.start();
+    }
+
+    @AfterEach
+    void stopStorageService() {
+        storageService.stop(0);
+    }
+
+    private String storageServiceBaseUrl() {
+        return "localhost:" + storageService.getAddress().getPort();
+    }
+
+    private Map<String, RepositoryResource> boxMap(String... names) throws IOException {
+        Map<String, RepositoryResource> boxes = new HashMap<>();
+        for (String name : names) {
+            boxes.put(name, mapper.readValue(new File(PATH + name + ".yml"), RepositoryResource.class));
+        }
+        return boxes;
+    }
+
+    private RepositorySettingsResource settings() throws IOException {
+        return mapper.readValue(new File(PATH + "settings.yml"), RepositorySettingsResource.class);
+    }
+
+    @Test
+    void testEveryBookIsCheckedOnce() throws IOException {
+        var validationContext = new SchemaValidationContext();
+        new BookNamesValidator(
+                settings(),
+                storageServiceBaseUrl(),
+                validationContext,
+                boxMap("box1", "box2", "box3", "box4")
+        ).validate();
+
+        Set<String> invalidBoxes = validationContext.getReport().getBookErrorMessages().stream()
+                .map(BoxResourceErrorMessage::getBox)
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("box3", "box4"), invalidBoxes);
+        assertTrue(validationContext.getReport().getExceptionMessages().isEmpty());
+
+        assertEquals(1, requests.get("/api/schema_keyspace").get());
+        assertEquals(1, requests.get("/api/schema_keyspace/books/demo_book").get());
+        assertEquals(1, requests.get("/api/schema_keyspace/books/missing_book").get());
+    }
+
+    @Test
+    void testSettingsWithoutKeyspace() throws IOException {
+        var validationContext = new SchemaValidationContext();
+        new BookNamesValidator(
+                mapper.readValue(new File(PATH + "settingsWithoutKeyspace.yml"), RepositorySettingsResource.class),
+                storageServiceBaseUrl(),
+                validationContext,
+                boxMap("box1"),
+                new SchemaValidatorConfig.Builder()
+                        .setBookLookupCache(new BookLookupCache(Duration.ofMinutes(1), Duration.ofMinutes(1), 16))
+                        .build()
+        ).validate();
+
+        assertEquals(1, validationContext.getReport().getExceptionMessages().size());
+        assertTrue(validationContext.getReport().getExceptionMessages().get(0)
+                .startsWith("Specified Keyspace \"null\" is not present in database"));
+    }
+
+    @Test
+    void testBookCatalog() throws IOException {
+        var validationContext = new SchemaValidationContext();
+        new BookNamesValidator(
+                settings(),
+                storageServiceBaseUrl(),
+                validationContext,
+                boxMap("box1", "box2", "box3", "box4"),
+                new SchemaValidatorConfig.Builder().setBookCheckMode(BookCheckMode.CATALOG).build()
+        ).validate();
+
+        Set<String> invalidBoxes = validationContext.getReport().getBookErrorMessages().stream()
+                .map(BoxResourceErrorMessage::getBox)
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("box3", "box4"), invalidBoxes);
+        assertTrue(validationContext.getReport().getExceptionMessages().isEmpty());
+
+        /* keyspace and its books are requested, nothing else */
+        assertEquals(Set.of("/api/schema_keyspace", BOOKS_PATH), requests.keySet());
+        assertEquals(1, requests.get(BOOKS_PATH).get());
+    }
+
+    @Test
+    void testOfflineBookCatalog() throws IOException {
+        var validationContext = new SchemaValidationContext();
+        new BookNamesValidator(
+                settings(),
+                storageServiceBaseUrl(),
+                validationContext,
+                boxMap("box1", "box2", "box3", "box4"),
+                new SchemaValidatorConfig.Builder()
+                        .setBookCatalog(OfflineBookCatalog.load(Path.of("src/test/resources/offlineTest/books.yml")))
+                        .build()
+        ).validate();
+
+        Set<String> invalidBoxes = validationContext.getReport().getBookErrorMessages().stream()
+                .map(BoxResourceErrorMessage::getBox)
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("box3", "box4"), invalidBoxes);
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    void testOpenCircuitBreaker() throws IOException {
+        var circuitBreaker = new CircuitBreaker(1, Duration.ofHours(1));
+        circuitBreaker.onFailure();
+
+        var validationContext = new SchemaValidationContext();
+        new BookNamesValidator(
+                settings(),
+                storageServiceBaseUrl(),
+                validationContext,
+                boxMap("box1", "box3"),
+                new SchemaValidatorConfig.Builder()
+                        .setStorageServiceSettings(new StorageServiceSettings.Builder()
+                                .setCircuitBreaker(circuitBreaker)
+                                .build())
+                        .build()
+        ).validate();
+
+        /* books validation is skipped with a warning which doesn't make the schema invalid */
+        assertTrue(validationContext.isValid());
+        assertEquals(1, validationContext.getReport().getWarningMessages().size());
+        assertTrue(validationContext.getReport().getBookErrorMessages().isEmpty());
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    void testUnavailableStorageService() throws IOException {
+        String storageServiceBaseUrl = storageServiceBaseUrl();
+        storageService.stop(0);
+
+        var validationContext = new SchemaValidationContext();
+        new BookNamesValidator(
+                settings(),
+                storageServiceBaseUrl,
+                validationContext,
+                boxMap("box1")
+        ).validate();
+
+        assertEquals(1, validationContext.getReport().getExceptionMessages().size());
+        assertTrue(validationContext.getReport().getBookErrorMessages().isEmpty());
+    }
+}
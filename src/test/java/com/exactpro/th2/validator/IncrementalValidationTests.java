@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator;
+
+import com.exactpro.th2.infrarepo.ResourceType;
+import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.exactpro.th2.infrarepo.settings.RepositorySettingsResource;
+import com.exactpro.th2.validator.books.OfflineBookCatalog;
+import com.exactpro.th2.validator.boxes.BoxesValidator;
+import com.exactpro.th2.validator.errormessages.BoxResourceErrorMessage;
+import com.exactpro.th2.validator.errormessages.LinkErrorMessage;
+import com.exactpro.th2.validator.links.LinksValidator;
+import com.exactpro.th2.validator.secrets.OfflineSecretsSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IncrementalValidationTests {
+    private static final ObjectMapper mapper = new YAMLMapper();
+
+    private static final String SCHEMA = "schema";
+
+    private static final String LINKS_PATH = "src/test/resources/linksTest/";
+
+    private static final String URL_PATHS_PATH = "src/test/resources/urlPathsTest/";
+
+    private Map<String, RepositoryResource> readBoxes(String path, String... names) throws IOException {
+        Map<String, RepositoryResource> boxes = new HashMap<>();
+        for (String name : names) {
+            boxes.put(name, mapper.readValue(new File(path + name + ".yml"), RepositoryResource.class));
+        }
+        return boxes;
+    }
+
+    private Map<String, Map<String, RepositoryResource>> repositoryMap(Map<String, RepositoryResource> boxes) {
+        return Map.of(ResourceType.Th2Box.kind(), boxes);
+    }
+
+    private SchemaValidatorConfig.Builder configBuilder() {
+        return new SchemaValidatorConfig.Builder()
+                .setSecretsSource(new OfflineSecretsSource(Map.of()))
+                .setBookCatalog(new OfflineBookCatalog(Map.of("schema_keyspace", Set.of("demo_book"))));
+    }
+
+    private RepositorySettingsResource settings() throws IOException {
+        return mapper.readValue(new File("src/test/resources/booksTest/settings.yml"),
+                RepositorySettingsResource.class);
+    }
+
+    private SchemaValidationContext validate(Map<String, RepositoryResource> boxes) throws IOException {
+        return SchemaValidator.validate(SCHEMA, "th2-", "http://localhost:1", settings(),
+                repositoryMap(boxes), configBuilder().build());
+    }
+
+    private SchemaValidationContext revalidate(SchemaValidationContext previous,
+                                               ResourceChangeSet changes,
+                                               Map<String, RepositoryResource> boxes) throws IOException {
+        return SchemaValidator.revalidate(previous, changes, SCHEMA, "th2-", "http://localhost:1", settings(),
+                repositoryMap(boxes), configBuilder().build());
+    }
+
+    @Test
+    void testRemovedLinkedBox() throws IOException {
+        var boxes = readBoxes(LINKS_PATH, "act-fix", "check1", "codec-fix", "rpt-data-provider");
+        var previous = validate(boxes);
+
+        var changedBoxes = readBoxes(LINKS_PATH, "act-fix", "codec-fix", "rpt-data-provider");
+        var changes = new ResourceChangeSet(Set.of(), Set.of(), Set.of("check1"));
+
+        assertSameResults(validate(changedBoxes), revalidate(previous, changes, changedBoxes));
+    }
+
+    @Test
+    void testUnaffectedResultsAreReused() throws IOException {
+        var boxes = readBoxes(LINKS_PATH, "act-fix", "check1", "codec-fix", "rpt-data-provider");
+        var previous = validate(boxes);
+
+        var changes = new ResourceChangeSet(Set.of(), Set.of("act-fix"), Set.of());
+        var current = revalidate(previous, changes, readBoxes(LINKS_PATH,
+                "act-fix", "check1", "codec-fix", "rpt-data-provider"));
+
+        assertSameResults(previous, current);
+        assertFalse(IncrementalSchemaValidator.affectedResources(previous, current, changes)
+                .contains("rpt-data-provider"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUnaffectedSpecsAreNotRead() throws IOException {
+        var boxes = readBoxes(LINKS_PATH, "act-fix", "check1", "codec-fix", "rpt-data-provider");
+        boxes.putAll(readBoxes(URL_PATHS_PATH, "box1", "box2"));
+        var previous = validate(boxes);
+
+        var changedBoxes = readBoxes(LINKS_PATH, "act-fix", "check1", "codec-fix", "rpt-data-provider");
+        changedBoxes.putAll(readBoxes(URL_PATHS_PATH, "box1", "box2"));
+        /* box2 is neither affected nor linked to affected boxes, any attempt to read its spec would fail */
+        var spec = (Map<String, Object>) changedBoxes.get("box2").getSpec();
+        spec.put("pins", "broken");
+        spec.put("extendedSettings", "broken");
+        spec.put("customConfig", "broken");
+        var changes = new ResourceChangeSet(Set.of(), Set.of("act-fix"), Set.of());
+
+        var current = revalidate(previous, changes, changedBoxes);
+        assertTrue(current.isComplete());
+        assertSameResults(previous, current);
+    }
+
+    @Test
+    void testChangedUrlPaths() throws IOException {
+        var boxes = readBoxes(URL_PATHS_PATH, "box1", "box2", "box3");
+        var previous = validate(boxes);
+
+        var changedBoxes = readBoxes(URL_PATHS_PATH, "box1", "box2");
+        var changes = new ResourceChangeSet(Set.of(), Set.of(), Set.of("box3"));
+
+        assertSameResults(validate(changedBoxes), revalidate(previous, changes, changedBoxes));
+    }
+
+    @Test
+    void testRemovedUrlPathPrefix() throws IOException {
+        var boxes = readBoxes(URL_PATHS_PATH, "box1", "box3", "box4");
+        var previous = validate(boxes);
+
+        var changedBoxes = readBoxes(URL_PATHS_PATH, "box1", "box4");
+        var changes = new ResourceChangeSet(Set.of(), Set.of(), Set.of("box3"));
+
+        assertSameResults(validate(changedBoxes), revalidate(previous, changes, changedBoxes));
+    }
+
+    @Test
+    void testListenerReceivesFinalReport() throws IOException {
+        var settings = settings();
+        var configBuilder = configBuilder();
+        var boxes = readBoxes(LINKS_PATH, "act-fix", "check1", "codec-fix", "rpt-data-provider");
+        boxes.putAll(readBoxes(URL_PATHS_PATH, "box1", "box2", "box3"));
+        var previous = SchemaValidator.validate(SCHEMA, "th2-", "http://localhost:1", settings,
+                repositoryMap(boxes), configBuilder.build());
+        assertTrue(previous.isComplete());
+
+        List<String> streamed = new ArrayList<>();
+        var listener = new ValidationListener() {
+            @Override
+            public void onLinkError(LinkErrorMessage message) {
+                streamed.add(message.toPrintableMessage());
+            }
+
+            @Override
+            public void onBoxResourceError(BoxResourceErrorMessage message) {
+                streamed.add(message.toPrintableMessage());
+            }
+
+            @Override
+            public void onBookError(BoxResourceErrorMessage message) {
+                streamed.add(message.toPrintableMessage());
+            }
+
+            @Override
+            public void onException(String message) {
+                streamed.add(message);
+            }
+        };
+        boxes.remove("check1");
+        var current = SchemaValidator.revalidate(previous, new ResourceChangeSet(Set.of(), Set.of(), Set.of("check1")),
+                SCHEMA, "th2-", "http://localhost:1", settings, repositoryMap(boxes),
+                configBuilder.setValidationListener(listener).build());
+
+        List<String> reported = new ArrayList<>();
+        var report = current.getReport();
+        report.getLinkErrorMessages().forEach(message -> reported.add(message.toPrintableMessage()));
+        report.getBoxResourceErrorMessages().forEach(message -> reported.add(message.toPrintableMessage()));
+        report.getBookErrorMessages().forEach(message -> reported.add(message.toPrintableMessage()));
+        reported.addAll(report.getExceptionMessages());
+
+        assertFalse(report.getBoxResourceErrorMessages().isEmpty());
+        assertEquals(Set.copyOf(reported), Set.copyOf(streamed));
+        assertEquals(reported.size(), streamed.size());
+    }
+
+    private void assertSameResults(SchemaValidationContext expected, SchemaValidationContext actual) {
+        assertEquals(expected.isValid(), actual.isValid());
+        assertEquals(expected.getInvalidResources(), actual.getInvalidResources());
+        assertEquals(linkErrors(expected), linkErrors(actual));
+        assertEquals(boxErrors(expected), boxErrors(actual));
+        for (String resourceName : expected.getInvalidResources()) {
+            assertEquals(
+                    validLinks(expected.getResource(resourceName)),
+                    validLinks(actual.getResource(resourceName))
+            );
+        }
+    }
+
+    private Set<String> linkErrors(SchemaValidationContext context) {
+        return context.getReport().getLinkErrorMessages().stream()
+                .map(LinkErrorMessage::toPrintableMessage)
+                .collect(Collectors.toSet());
+    }
+
+    private List<String> boxErrors(SchemaValidationContext context) {
+        return context.getReport().getBoxResourceErrorMessages().stream()
+                .map(BoxResourceErrorMessage::getBox)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private Set<String> validLinks(ResourceValidationContext resource) {
+        return resource.getValidMqLinks().stream()
+                .map(link -> link.getContent())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator;
+
+import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.exactpro.th2.infrarepo.settings.RepositorySettingsResource;
+import com.exactpro.th2.validator.books.OfflineBookCatalog;
+import com.exactpro.th2.validator.errormessages.PrintableMessage;
+import com.exactpro.th2.validator.secrets.OfflineSecretsSource;
+import com.exactpro.th2.validator.secrets.SecretsSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("unchecked")
+class SchemaValidatorTests {
+    private static final ObjectMapper mapper = new YAMLMapper();
+
+    private static final String SCHEMA = "schema";
+
+    private static final String NAMESPACE_PREFIX = "th2-";
+
+    private static final String[] FILES = {
+            "linksTest/act-fix.yml",
+            "linksTest/check1.yml",
+            "linksTest/codec-fix.yml",
+            "linksTest/rpt-data-provider.yml",
+            "urlPathsTest/box1.yml",
+            "urlPathsTest/box2.yml",
+            "urlPathsTest/box3.yml",
+            "urlPathsTest/box4.yml",
+            "offlineTest/secrets-box.yml"
+    };
+
+    /**
+     * validation modifies specs of the boxes, so every run needs its own copy of the repository
+     */
+    private Map<String, Map<String, RepositoryResource>> repositoryMap() throws IOException {
+        Map<String, Map<String, RepositoryResource>> repositoryMap = new HashMap<>();
+        for (String file : FILES) {
+            var resource = mapper.readValue(new File("src/test/resources/" + file), RepositoryResource.class);
+            repositoryMap.computeIfAbsent(resource.getKind(), kind -> new HashMap<>())
+                    .put(resource.getMetadata().getName(), resource);
+        }
+        var actSpec = (Map<String, Object>) repositoryMap.get("Th2Box").get("act-fix").getSpec();
+        actSpec.put("bookName", "missing_book");
+        return repositoryMap;
+    }
+
+    private SchemaValidationContext validate(SchemaValidatorConfig.Builder configBuilder) throws IOException {
+        return validate(configBuilder, repositoryMap());
+    }
+
+    private SchemaValidationContext validate(SchemaValidatorConfig.Builder configBuilder,
+                                             Map<String, Map<String, RepositoryResource>> repositoryMap)
+            throws IOException {
+        var settings = mapper.readValue(new File("src/test/resources/booksTest/settings.yml"),
+                RepositorySettingsResource.class);
+        var config = configBuilder
+                .setSecretsSource(OfflineSecretsSource.load(Path.of("src/test/resources/offlineTest/secrets.yml")))
+                .setBookCatalog(OfflineBookCatalog.load(Path.of("src/test/resources/offlineTest/books.yml")))
+                .build();
+        return SchemaValidator.validate(SCHEMA, NAMESPACE_PREFIX, "http://localhost:1",
+                settings, repositoryMap, config);
+    }
+
+    private List<String> printable(List<? extends PrintableMessage> messages) {
+        return messages.stream()
+                .map(PrintableMessage::toPrintableMessage)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Test
+    void testConcurrentPhasesProduceSameReport() throws IOException {
+        var sequential = validate(new SchemaValidatorConfig.Builder());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            var concurrent = validate(new SchemaValidatorConfig.Builder().setPhaseExecutor(executor));
+
+            ValidationReport expected = sequential.getReport();
+            ValidationReport actual = concurrent.getReport();
+            /* every phase reported something */
+            assertFalse(expected.getLinkErrorMessages().isEmpty());
+            assertFalse(expected.getBookErrorMessages().isEmpty());
+            assertTrue(expected.getBoxResourceErrorMessages().stream()
+                    .anyMatch(message -> message.getBox().equals("secrets-box")));
+
+            assertEquals(printable(expected.getLinkErrorMessages()), printable(actual.getLinkErrorMessages()));
+            assertEquals(printable(expected.getBoxResourceErrorMessages()),
+                    printable(actual.getBoxResourceErrorMessages()));
+            assertEquals(printable(expected.getBookErrorMessages()), printable(actual.getBookErrorMessages()));
+            assertEquals(expected.getExceptionMessages(), actual.getExceptionMessages());
+            assertEquals(sequential.getInvalidResources(), concurrent.getInvalidResources());
+            assertEquals(sequential.isComplete(), concurrent.isComplete());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testPhaseResultsAreReportedBeforeLaterPhasesFinish() throws InterruptedException {
+        var reported = new CountDownLatch(1);
+        var config = new SchemaValidatorConfig.Builder()
+                .setValidationListener(new ValidationListener() {
+                    @Override
+                    public void onException(String message) {
+                        reported.countDown();
+                    }
+                })
+                .build();
+        var context = new SchemaValidationContext(config);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            var secondPhaseWaited = new AtomicBoolean();
+            SchemaValidator.runPhases(context, executor, List.of(
+                    phaseContext -> phaseContext.addExceptionMessage("first"),
+                    phaseContext -> {
+                        try {
+                            secondPhaseWaited.set(reported.await(5, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        phaseContext.addExceptionMessage("second");
+                    }
+            ));
+            /* the first phase was passed to the listener while the second one was still running */
+            assertTrue(secondPhaseWaited.get());
+            assertEquals(List.of("first", "second"), context.getReport().getExceptionMessages());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testErrorLimitStopsConcurrentPhases() {
+        var context = new SchemaValidationContext(new SchemaValidatorConfig.Builder().setMaxErrors(1).build());
+        var abortSeen = new AtomicBoolean();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            SchemaValidator.runPhases(context, executor, List.of(
+                    phaseContext -> {
+                        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                        while (!phaseContext.isAborted() && System.nanoTime() - deadline < 0) {
+                            Thread.onSpinWait();
+                        }
+                        abortSeen.set(phaseContext.isAborted());
+                    },
+                    phaseContext -> phaseContext.addExceptionMessage("limit")
+            ));
+            /* the limit reached by the second phase is seen by the first one before it is merged */
+            assertTrue(abortSeen.get());
+            assertFalse(context.isComplete());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testMalformedCustomConfigFailsOnlyPhasesWhichReadIt() throws IOException {
+        var repositoryMap = repositoryMap();
+        var spec = (Map<String, Object>) repositoryMap.get("Th2Box").get("check1").getSpec();
+        spec.put("customConfig", "not a map");
+
+        var context = validate(new SchemaValidatorConfig.Builder(), repositoryMap);
+        /* url paths are checked before the custom configs are read */
+        assertTrue(context.getReport().getBoxResourceErrorMessages().stream()
+                .anyMatch(message -> message.getBox().equals("box1")));
+        assertEquals(1, context.getReport().getExceptionMessages().size());
+        assertFalse(context.isComplete());
+    }
+
+    @Test
+    void testExceptionWithoutMessage() throws IOException {
+        var secretsSource = new SecretsSource() {
+            @Override
+            public boolean namespaceExists(String namespace) {
+                throw new NullPointerException();
+            }
+
+            @Override
+            public Set<String> getCustomSecretKeys(String namespace) {
+                return Set.of();
+            }
+        };
+        var settings = mapper.readValue(new File("src/test/resources/booksTest/settings.yml"),
+                RepositorySettingsResource.class);
+        var config = new SchemaValidatorConfig.Builder()
+                .setSecretsSource(secretsSource)
+                .setBookCatalog(OfflineBookCatalog.load(Path.of("src/test/resources/offlineTest/books.yml")))
+                .build();
+
+        var context = SchemaValidator.validate(SCHEMA, NAMESPACE_PREFIX, "http://localhost:1",
+                settings, repositoryMap(), config);
+        assertEquals(List.of("java.lang.NullPointerException"), context.getReport().getExceptionMessages());
+        assertFalse(context.isComplete());
+    }
+}
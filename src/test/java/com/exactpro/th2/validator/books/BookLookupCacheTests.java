@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.books;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookLookupCacheTests {
+    private static final String URL = "localhost:8080";
+
+    private static final String KEYSPACE = "schema_keyspace";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final BookLookupCache cache = new BookLookupCache(
+            Duration.ofSeconds(60), Duration.ofSeconds(5), 2, clock::get);
+
+    private boolean lookup(String keyspace, String book, boolean exists) {
+        return cache.get(URL, keyspace, book, () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(exists);
+        }, Boolean::booleanValue).join();
+    }
+
+    @Test
+    void testPositiveAndNegativeTtl() {
+        assertTrue(lookup(KEYSPACE, "demo_book", true));
+        assertFalse(lookup(KEYSPACE, "missing_book", false));
+        assertEquals(2, loads.get());
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(lookup(KEYSPACE, "demo_book", true));
+        assertFalse(lookup(KEYSPACE, "missing_book", false));
+        /* only the negative result has expired */
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testFailedLookupIsNotKept() {
+        var failed = cache.get(URL, KEYSPACE, "demo_book",
+                () -> CompletableFuture.<Boolean>failedFuture(new IOException("unavailable")),
+                Boolean::booleanValue);
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(0, cache.size());
+
+        assertTrue(lookup(KEYSPACE, "demo_book", true));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testLoaderRunsOutsideOfLock() {
+        // the cache is used from another thread while the loader runs, it would time out if the lock was held
+        var result = cache.get(URL, KEYSPACE, "demo_book", () -> CompletableFuture.completedFuture(
+                CompletableFuture.supplyAsync(cache::size).orTimeout(5, TimeUnit.SECONDS).join() == 1),
+                Boolean::booleanValue);
+        assertTrue(result.join());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testThrowingLoaderIsNotKept() {
+        var failed = cache.get(URL, KEYSPACE, "demo_book",
+                () -> {
+                    throw new IllegalStateException("unavailable");
+                },
+                Boolean::booleanValue);
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsEvicted() {
+        lookup(KEYSPACE, "book1", true);
+        lookup(KEYSPACE, "book2", true);
+        lookup(KEYSPACE, "book1", true);
+        lookup(KEYSPACE, "book3", true);
+        assertEquals(2, cache.size());
+        assertEquals(3, loads.get());
+
+        lookup(KEYSPACE, "book1", true);
+        assertEquals(3, loads.get());
+        lookup(KEYSPACE, "book2", true);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testInvalidateKeyspace() {
+        lookup(KEYSPACE, "book1", true);
+        lookup("other_keyspace", "book1", true);
+
+        cache.invalidate(KEYSPACE);
+        assertEquals(1, cache.size());
+        lookup(KEYSPACE, "book1", true);
+        lookup("other_keyspace", "book1", true);
+        assertEquals(3, loads.get());
+
+        cache.invalidate();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testMissingKeyspace() {
+        assertFalse(lookup(null, "demo_book", false));
+        assertFalse(lookup(null, "demo_book", false));
+        assertEquals(1, loads.get());
+
+        cache.invalidate(null);
+        assertEquals(0, cache.size());
+    }
+}
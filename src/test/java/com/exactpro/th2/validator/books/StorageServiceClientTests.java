@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.books;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageServiceClientTests {
+    private static final String KEYSPACE = "schema_keyspace";
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private volatile int failingRequests;
+
+    private volatile long responseDelayMillis;
+
+    private volatile String lastPath;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private HttpServer storageService;
+
+    private ExecutorService storageServiceExecutor;
+
+    @BeforeEach
+    void startStorageService() throws IOException {
+        storageServiceExecutor = Executors.newCachedThreadPool();
+        storageService = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        storageService.setExecutor(storageServiceExecutor);
+        storageService.createContext("/", this::respond);
+        storageService.start();
+    }
+
+    @AfterEach
+    void stopStorageService() {
+        storageService.stop(0);
+        storageServiceExecutor.shutdownNow();
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        int request = requests.incrementAndGet();
+        lastPath = exchange.getRequestURI().getRawPath();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(responseDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        inFlight.decrementAndGet();
+        exchange.sendResponseHeaders(request <= failingRequests ? 503 : 200, -1);
+        exchange.close();
+    }
+
+    private StorageServiceClient client(StorageServiceSettings.Builder settings) {
+        return new StorageServiceClient(
+                "localhost:" + storageService.getAddress().getPort(),
+                settings.setRetryBackoff(Duration.ofMillis(10)).build(),
+                null
+        );
+    }
+
+    @Test
+    void testServerErrorsAreRetried() {
+        failingRequests = 2;
+        var client = client(new StorageServiceSettings.Builder().setMaxRetries(2));
+
+        assertTrue(client.keyspaceExists(KEYSPACE).join());
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void testRequestTimeout() {
+        responseDelayMillis = 1_000;
+        var client = client(new StorageServiceSettings.Builder()
+                .setRequestTimeout(Duration.ofMillis(100))
+                .setMaxRetries(1));
+
+        var e = assertThrows(CompletionException.class, () -> client.keyspaceExists(KEYSPACE).join());
+        assertTrue(e.getCause() instanceof HttpTimeoutException);
+    }
+
+    @Test
+    void testCircuitBreaker() {
+        failingRequests = Integer.MAX_VALUE;
+        var client = client(new StorageServiceSettings.Builder()
+                .setMaxRetries(5)
+                .setCircuitBreaker(new CircuitBreaker(2, Duration.ofHours(1))));
+
+        assertFalse(client.isUnavailable());
+        var e = assertThrows(CompletionException.class, () -> client.bookExists(KEYSPACE, "demo_book").join());
+        assertTrue(e.getCause() instanceof StorageServiceUnavailableException);
+        /* retries are stopped as soon as the breaker opens */
+        assertEquals(2, requests.get());
+        assertTrue(client.isUnavailable());
+
+        assertThrows(CompletionException.class, () -> client.keyspaceExists(KEYSPACE).join());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void testConcurrentRequestsAreLimited() {
+        responseDelayMillis = 100;
+        var client = client(new StorageServiceSettings.Builder().setMaxConcurrentRequests(2));
+
+        List<CompletableFuture<Boolean>> checks = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            checks.add(client.bookExists(KEYSPACE, "book_" + i));
+        }
+        checks.forEach(check -> assertTrue(check.join()));
+        assertEquals(6, requests.get());
+        assertTrue(maxInFlight.get() <= 2, "max requests in flight: " + maxInFlight.get());
+    }
+
+    @Test
+    void testBookNameIsEncoded() {
+        var client = client(new StorageServiceSettings.Builder());
+
+        assertTrue(client.bookExists(KEYSPACE, "demo book/1?").join());
+        assertEquals("/api/" + KEYSPACE + "/books/demo%20book%2F1%3F", lastPath);
+    }
+}
@@ -21,16 +21,19 @@ import com.exactpro.th2.validator.SchemaValidationContext;
 import com.exactpro.th2.validator.errormessages.BoxResourceErrorMessage;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
-import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class UrlPathsConflictsTests {
     private static final String PATH = "src/test/resources/urlPathsTest/";
@@ -52,6 +55,10 @@ class UrlPathsConflictsTests {
         return mapper.readValue(new File(PATH + name), RepositoryResource.class);
     }
 
+    private static int countMatches(String text, String substring) {
+        return text.split(Pattern.quote(substring), -1).length - 1;
+    }
+
     @Test
     void testUrlPathConflictsDetection() throws IOException {
         var validationContext = new SchemaValidationContext();
@@ -62,10 +69,61 @@ class UrlPathsConflictsTests {
                 .collect(Collectors.joining("\n"));
 
         /* 3 as box1->box2, box2->box3, box1->box3 all relations have URL1 conflict */
-        assertEquals(2, StringUtils.countMatches(errorMsgs, "Contains duplicated url paths"));
-        assertEquals(3, StringUtils.countMatches(errorMsgs, "URL1"));
-        assertEquals(1, StringUtils.countMatches(errorMsgs, "URL2"));
-        assertEquals(1, StringUtils.countMatches(errorMsgs, "URL4"));
+        assertEquals(2, countMatches(errorMsgs, "Contains duplicated url paths"));
+        assertEquals(3, countMatches(errorMsgs, "URL1"));
+        assertEquals(1, countMatches(errorMsgs, "URL2"));
+        assertEquals(1, countMatches(errorMsgs, "URL4"));
+    }
+
+    @Test
+    void testUrlPathOverlapsDetection() throws IOException {
+        var validationContext = new SchemaValidationContext();
+        var boxMap = Map.of(
+                "box3", getBox("box3.yml"),
+                "box4", getBox("box4.yml")
+        );
+        new BoxesValidator(validationContext, boxMap).detectUrlPathsConflicts();
+
+        /* nested paths are routed correctly, so they are only warned about */
+        assertTrue(validationContext.getReport().getBoxResourceErrorMessages().isEmpty());
+        assertTrue(validationContext.getInvalidResources().isEmpty());
+        /* paths nested into the paths of the same resource are not reported */
+        assertEquals(
+                List.of("Url path \"/URL5/api\" of resource \"box4\" "
+                        + "is nested into url path \"URL5\" of resource \"box3\""),
+                validationContext.getReport().getWarningMessages()
+        );
+    }
+
+    @Test
+    void testRootUrlPathDoesNotOverlap() throws IOException {
+        var validationContext = new SchemaValidationContext();
+        var boxMap = Map.of(
+                "box4", getBox("box4.yml"),
+                "box5", getBox("box5.yml")
+        );
+        new BoxesValidator(validationContext, boxMap).detectUrlPathsConflicts();
+
+        assertTrue(validationContext.getReport().getBoxResourceErrorMessages().isEmpty());
+        assertTrue(validationContext.getReport().getWarningMessages().isEmpty());
+    }
+
+    @Test
+    void testSameUrlPathWrittenDifferently() throws IOException {
+        var validationContext = new SchemaValidationContext();
+        var boxMap = Map.of(
+                "box5", getBox("box5.yml"),
+                "box6", getBox("box6.yml")
+        );
+        new BoxesValidator(validationContext, boxMap).detectUrlPathsConflicts();
+        List<BoxResourceErrorMessage> errors = validationContext.getReport().getBoxResourceErrorMessages();
+
+        /* "/URL7" and "URL7/" are served by the same ingress path */
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).getMessage().matches(
+                "Url path \"(/URL7|URL7/)\" conflicts with url path \"(/URL7|URL7/)\" of resource \"box[56]\""));
+        assertEquals(Set.of(errors.get(0).getBox()), validationContext.getInvalidResources());
+        assertTrue(validationContext.getReport().getWarningMessages().isEmpty());
     }
 
     @Test
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.cache;
+
+import com.exactpro.th2.infrarepo.ResourceType;
+import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.exactpro.th2.validator.SchemaValidationContext;
+import com.exactpro.th2.validator.SchemaValidatorConfig;
+import com.exactpro.th2.validator.errormessages.LinkErrorMessage;
+import com.exactpro.th2.validator.links.LinksValidator;
+import com.exactpro.th2.validator.util.SourceHashUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedValidationCacheTests {
+    private static final ObjectMapper mapper = new YAMLMapper();
+
+    private static final String SCHEMA = "schema";
+
+    private static final String PATH = "src/test/resources/linksTest/";
+
+    private static final LinkOutcome VALID = new LinkOutcome(null, null);
+
+    private static final LinkOutcome INVALID = new LinkOutcome("Pin doesn't exist", null);
+
+    @TempDir
+    Path tempDir;
+
+    private static String key(String name) {
+        return SourceHashUtil.digest(name);
+    }
+
+    @Test
+    void testOutcomesSurviveReopen() throws IOException {
+        Path file = tempDir.resolve("cache.bin");
+        try (var cache = MappedValidationCache.open(file, 16)) {
+            cache.putLinkOutcome(key("a"), VALID);
+            cache.putLinkOutcome(key("b"), INVALID);
+        }
+        try (var cache = MappedValidationCache.open(file, 16)) {
+            assertEquals(2, cache.size());
+            assertEquals(VALID, cache.getLinkOutcome(key("a")));
+            assertEquals(INVALID, cache.getLinkOutcome(key("b")));
+            assertNull(cache.getLinkOutcome(key("c")));
+        }
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsEvicted() throws IOException {
+        Path file = tempDir.resolve("cache.bin");
+        try (var cache = MappedValidationCache.open(file, 2)) {
+            cache.putLinkOutcome(key("a"), VALID);
+            cache.putLinkOutcome(key("b"), VALID);
+            cache.getLinkOutcome(key("a"));
+        }
+        // access order is restored from the file
+        try (var cache = MappedValidationCache.open(file, 2)) {
+            cache.putLinkOutcome(key("c"), INVALID);
+            assertEquals(2, cache.size());
+            assertNull(cache.getLinkOutcome(key("b")));
+            assertEquals(VALID, cache.getLinkOutcome(key("a")));
+            assertEquals(INVALID, cache.getLinkOutcome(key("c")));
+        }
+    }
+
+    @Test
+    void testReadEntryGetsSecondChance() throws IOException {
+        try (var cache = MappedValidationCache.open(tempDir.resolve("cache.bin"), 3)) {
+            cache.putLinkOutcome(key("a"), VALID);
+            cache.putLinkOutcome(key("b"), VALID);
+            cache.putLinkOutcome(key("c"), VALID);
+            cache.getLinkOutcome(key("a"));
+            cache.putLinkOutcome(key("d"), INVALID);
+            assertEquals(3, cache.size());
+            assertNull(cache.getLinkOutcome(key("b")));
+            assertEquals(VALID, cache.getLinkOutcome(key("a")));
+            cache.putLinkOutcome(key("e"), INVALID);
+            assertNull(cache.getLinkOutcome(key("c")));
+            assertEquals(INVALID, cache.getLinkOutcome(key("d")));
+        }
+    }
+
+    @Test
+    void testIncompatibleFileIsReset() throws IOException {
+        Path file = tempDir.resolve("cache.bin");
+        try (var cache = MappedValidationCache.open(file, 4)) {
+            cache.putLinkOutcome(key("a"), VALID);
+        }
+        try (var cache = MappedValidationCache.open(file, 8)) {
+            assertEquals(0, cache.size());
+            assertNull(cache.getLinkOutcome(key("a")));
+        }
+    }
+
+    @Test
+    void testTooLongOutcomeIsNotCached() throws IOException {
+        try (var cache = MappedValidationCache.open(tempDir.resolve("cache.bin"), 4)) {
+            cache.putLinkOutcome(key("a"), new LinkOutcome("x".repeat(MappedValidationCache.SLOT_SIZE), null));
+            assertNull(cache.getLinkOutcome(key("a")));
+        }
+    }
+
+    @Test
+    void testConcurrentGetAndPut() throws Exception {
+        int threads = 8;
+        int keys = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (var cache = MappedValidationCache.open(tempDir.resolve("cache.bin"), keys / 2)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        int n = (seed * 31 + i) % keys;
+                        LinkOutcome expected = n % 2 == 0 ? VALID : INVALID;
+                        if (i % 3 == 0) {
+                            cache.putLinkOutcome(key("k" + n), expected);
+                        } else {
+                            LinkOutcome actual = cache.getLinkOutcome(key("k" + n));
+                            // an entry may be evicted, but never replaced by outcome of other key
+                            assertTrue(actual == null || actual.equals(expected));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            assertTrue(cache.size() <= keys / 2);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testCachedLinkOutcomesGiveSameReport() throws IOException {
+        Path file = tempDir.resolve("cache.bin");
+        List<String> uncachedErrors = linkErrors(validateLinks(SchemaValidatorConfig.DEFAULT));
+
+        try (var cache = MappedValidationCache.open(file, 64)) {
+            var config = new SchemaValidatorConfig.Builder().setValidationCache(cache).build();
+            assertEquals(uncachedErrors, linkErrors(validateLinks(config)));
+            assertTrue(cache.size() > 0);
+        }
+        try (var cache = MappedValidationCache.open(file, 64)) {
+            int size = cache.size();
+            var config = new SchemaValidatorConfig.Builder().setValidationCache(cache).build();
+            assertEquals(uncachedErrors, linkErrors(validateLinks(config)));
+            assertEquals(size, cache.size());
+        }
+    }
+
+    private SchemaValidationContext validateLinks(SchemaValidatorConfig config) throws IOException {
+        Map<String, RepositoryResource> boxes = new HashMap<>();
+        for (String name : List.of("act-fix", "check1", "codec-fix", "rpt-data-provider")) {
+            var box = mapper.readValue(new File(PATH + name + ".yml"), RepositoryResource.class);
+            box.setSourceHash(SourceHashUtil.digest(mapper.writeValueAsString(box.getSpec())));
+            boxes.put(name, box);
+        }
+        var context = new SchemaValidationContext();
+        var validator = new LinksValidator(context, Map.of(ResourceType.Th2Box.kind(), boxes), config);
+        validator.removeDuplicatePins();
+        validator.validateLinks(SCHEMA);
+        return context;
+    }
+
+    private static List<String> linkErrors(SchemaValidationContext context) {
+        return context.getReport().getLinkErrorMessages().stream()
+                .map(LinkErrorMessage::toPrintableMessage)
+                .collect(Collectors.toList());
+    }
+}
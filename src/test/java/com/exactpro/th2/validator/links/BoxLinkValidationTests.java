@@ -20,8 +20,11 @@ import com.exactpro.th2.infrarepo.ResourceType;
 import com.exactpro.th2.infrarepo.repo.RepositoryResource;
 import com.exactpro.th2.validator.SchemaValidationContext;
 import com.exactpro.th2.validator.SchemaValidator;
+import com.exactpro.th2.validator.SchemaValidatorConfig;
+import com.exactpro.th2.validator.ValidationListener;
 import com.exactpro.th2.validator.errormessages.LinkErrorMessage;
 import com.exactpro.th2.validator.model.Th2Spec;
+import com.exactpro.th2.validator.model.link.MessageLink;
 import com.exactpro.th2.validator.model.pin.LinkToEndpoint;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
@@ -30,6 +33,8 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static com.exactpro.th2.validator.links.enums.ValidationStatus.INVALID;
@@ -113,6 +118,115 @@ class BoxLinkValidationTests {
         assertEquals(expectedInvalidLinks, actualInvalidLinks);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testLinkToWithoutBox() throws IOException {
+        Map<String, Map<String, RepositoryResource>> repoMap = initRepositoryMap();
+        var actSpec = (Map<String, Object>) repoMap.get(ResourceType.Th2Box.kind()).get(ACT).getSpec();
+        var pins = (Map<String, Object>) actSpec.get("pins");
+        var subscriber = ((List<Map<String, Object>>) ((Map<String, Object>) pins.get("mq")).get("subscribers")).get(0);
+        var linkTo = new ArrayList<>((List<Object>) subscriber.get("linkTo"));
+        linkTo.add(new HashMap<>(Map.of("pin", "out_codec_decode")));
+        subscriber.put("linkTo", linkTo);
+
+        var validationContext = new SchemaValidationContext();
+        new LinksValidator(validationContext, repoMap).validateLinks(SCHEMA);
+
+        /* only the link without a box is invalid, other links of the box are still checked */
+        List<LinkErrorMessage> errors = validationContext.getReport().getLinkErrorMessages();
+        assertTrue(errors.stream().anyMatch(error ->
+                error.getLinkContent().equals(linkContent(null, "out_codec_decode", ACT, "from_codec"))
+                        && error.getMessage().contains("Resource [null] doesn't exist")));
+        assertTrue(validationContext.getReport().getBoxResourceErrorMessages().isEmpty());
+        assertEquals(
+                collectLinkContents(errors).size() - 1,
+                collectLinkContents(linkErrors(initRepositoryMap())).size()
+        );
+    }
+
+    private List<LinkErrorMessage> linkErrors(Map<String, Map<String, RepositoryResource>> repoMap) {
+        var validationContext = new SchemaValidationContext();
+        new LinksValidator(validationContext, repoMap).validateLinks(SCHEMA);
+        return validationContext.getReport().getLinkErrorMessages();
+    }
+
+    @Test
+    void testParallelValidationMatchesSequential() throws IOException {
+        var sequentialContext = new SchemaValidationContext();
+        new LinksValidator(sequentialContext, initRepositoryMap()).validateLinks(SCHEMA);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            var parallelContext = new SchemaValidationContext();
+            new LinksValidator(parallelContext, initRepositoryMap(), executor).validateLinks(SCHEMA);
+
+            assertEquals(sequentialContext.getInvalidResources(), parallelContext.getInvalidResources());
+            assertEquals(
+                    linkContents(sequentialContext.getReport().getLinkErrorMessages()),
+                    linkContents(parallelContext.getReport().getLinkErrorMessages())
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testListenerReceivesResultsInReportOrder() throws IOException {
+        List<LinkErrorMessage> streamedErrors = new ArrayList<>();
+        List<String> streamedValidLinks = new ArrayList<>();
+        var listener = new ValidationListener() {
+            @Override
+            public void onLinkError(LinkErrorMessage message) {
+                streamedErrors.add(message);
+            }
+
+            @Override
+            public void onValidMqLink(String resourceName, MessageLink link) {
+                streamedValidLinks.add(link.getContent());
+            }
+
+            @Override
+            public void onValidGrpcLink(String resourceName, MessageLink link) {
+                streamedValidLinks.add(link.getContent());
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            var config = new SchemaValidatorConfig.Builder()
+                    .setValidationListener(listener)
+                    .setLinkValidationExecutor(executor)
+                    .build();
+            var validationContext = new SchemaValidationContext(config);
+            new LinksValidator(validationContext, initRepositoryMap(), config).validateLinks(SCHEMA);
+
+            assertEquals(
+                    linkContents(validationContext.getReport().getLinkErrorMessages()),
+                    linkContents(streamedErrors)
+            );
+            assertFalse(streamedValidLinks.isEmpty());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testFailFast() throws IOException {
+        var fullContext = new SchemaValidationContext();
+        new LinksValidator(fullContext, initRepositoryMap()).validateLinks(SCHEMA);
+
+        var config = new SchemaValidatorConfig.Builder().setMaxErrors(2).build();
+        var validationContext = new SchemaValidationContext(config);
+        new LinksValidator(validationContext, initRepositoryMap(), config).validateLinks(SCHEMA);
+
+        assertTrue(validationContext.isAborted());
+        assertFalse(validationContext.isComplete());
+        // checks which are already running add their errors, the remaining links are skipped
+        int errors = validationContext.getReport().getLinkErrorMessages().size();
+        assertTrue(errors >= 2);
+        assertTrue(errors < fullContext.getReport().getLinkErrorMessages().size());
+    }
+
     @Test
     void testRemoveInvalidLinks() throws IOException {
         Map<String, Map<String, RepositoryResource>> repoMap = initRepositoryMap();
@@ -147,6 +261,61 @@ class BoxLinkValidationTests {
 
     }
 
+    @Test
+    void testRemoveInvalidLinksRehashesOnlyChangedBoxes() throws IOException {
+        Map<String, Map<String, RepositoryResource>> repoMap = initRepositoryMap();
+        Map<String, RepositoryResource> boxMap = collectResources(
+                repoMap,
+                ResourceType.Th2Box.kind(),
+                ResourceType.Th2CoreBox.kind(),
+                ResourceType.Th2Job.kind()
+        );
+        var validationContext = new SchemaValidationContext();
+        new LinksValidator(validationContext, repoMap).validateLinks(SCHEMA);
+        SchemaValidator.removeInvalidLinks(validationContext, boxMap.values());
+        assertNotNull(boxMap.get(ACT).getSourceHash());
+
+        // linkTo sections are already rewritten, so the second pass must not touch any box
+        boxMap.values().forEach(box -> box.setSourceHash("unchanged"));
+        SchemaValidator.removeInvalidLinks(validationContext, boxMap.values());
+        boxMap.values().forEach(box -> assertEquals("unchanged", box.getSourceHash()));
+    }
+
+    @Test
+    void testParallelRemoveInvalidLinksMatchesSequential() throws IOException {
+        Map<String, RepositoryResource> sequentialBoxes = removeInvalidLinks(null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Map<String, RepositoryResource> parallelBoxes = removeInvalidLinks(executor);
+            assertEquals(sequentialBoxes.keySet(), parallelBoxes.keySet());
+            for (var entry : sequentialBoxes.entrySet()) {
+                RepositoryResource parallelBox = parallelBoxes.get(entry.getKey());
+                assertEquals(entry.getValue().getSourceHash(), parallelBox.getSourceHash());
+                assertEquals(
+                        mapper.writeValueAsString(entry.getValue().getSpec()),
+                        mapper.writeValueAsString(parallelBox.getSpec())
+                );
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Map<String, RepositoryResource> removeInvalidLinks(ExecutorService executor) throws IOException {
+        Map<String, Map<String, RepositoryResource>> repoMap = initRepositoryMap();
+        Map<String, RepositoryResource> boxMap = collectResources(
+                repoMap,
+                ResourceType.Th2Box.kind(),
+                ResourceType.Th2CoreBox.kind(),
+                ResourceType.Th2Job.kind()
+        );
+        var validationContext = new SchemaValidationContext();
+        new LinksValidator(validationContext, repoMap).validateLinks(SCHEMA);
+        SchemaValidator.removeInvalidLinks(validationContext, boxMap.values(), executor);
+        return boxMap;
+    }
+
     @Test
     void testSpecNullSafety() throws IOException {
         final var noSpecBoxName = "NoSpecBox";
@@ -183,6 +352,12 @@ class BoxLinkValidationTests {
                 .collect(Collectors.toUnmodifiableSet());
     }
 
+    private List<String> linkContents(List<LinkErrorMessage> errors) {
+        return errors.stream()
+                .map(LinkErrorMessage::getLinkContent)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
     private String linkContent(String fromBox, String fromPin, String toBox, String toPin) {
         return format("FROM %s:%s TO %s:%s",
                 fromBox, fromPin,
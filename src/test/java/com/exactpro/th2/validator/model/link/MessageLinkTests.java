@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.model.link;
+
+import com.exactpro.th2.validator.model.pin.LinkToEndpoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SuppressWarnings("deprecation")
+class MessageLinkTests {
+
+    @Test
+    void testDeprecatedLinkMetaGivesSameLink() {
+        var from = new Endpoint("codec", "out");
+        var to = new Endpoint("act", "in");
+        var link = new MessageLink("act", from, to);
+
+        LinkMeta mqMeta = new LinkToEndpoint("codec", "out").mqLinkMetaData("act", "in");
+        var mqLink = new MessageLink(mqMeta, from, to);
+        assertEquals(link.getResourceName(), mqLink.getResourceName());
+        assertEquals(link.getContent(), mqLink.getContent());
+        assertEquals(link.getKey(), mqLink.getKey());
+        assertEquals("FROM codec:out TO act:in", mqLink.getContent());
+
+        LinkMeta grpcMeta = new LinkToEndpoint("act", "in").grpcLinkMetaData("codec", "out");
+        assertEquals("codec", grpcMeta.resName());
+        assertEquals(link.getContent(), grpcMeta.content());
+    }
+
+    @Test
+    void testLinkKeyHash() {
+        assertEquals(Objects.hash("codec", "out", "act", "in"), new LinkKey("codec", "out", "act", "in").hashCode());
+        assertEquals(Objects.hash(null, "out", "act", null), new LinkKey(null, "out", "act", null).hashCode());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.model.pin;
+
+import com.exactpro.th2.validator.links.enums.DirectionAttribute;
+import com.exactpro.th2.validator.links.enums.MessageFormatAttribute;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PinAttributesTests {
+
+    @Test
+    void testFormatsAreMatchedByPrefix() {
+        var attributes = new PinAttributes(List.of("publish", "parsed_fix", "event", "custom"));
+
+        assertTrue(attributes.hasFormat(MessageFormatAttribute.parsed));
+        assertTrue(attributes.hasFormat(MessageFormatAttribute.event));
+        assertFalse(attributes.hasFormat(MessageFormatAttribute.raw));
+        assertEquals("parsed_fix", attributes.firstAttribute(MessageFormatAttribute.parsed));
+        assertNull(attributes.firstAttribute(MessageFormatAttribute.group));
+        assertTrue(attributes.hasAnyFormat(PinAttributes.mask(
+                List.of(MessageFormatAttribute.raw, MessageFormatAttribute.event))));
+        assertFalse(attributes.hasAnyFormat(PinAttributes.mask(
+                List.of(MessageFormatAttribute.raw, MessageFormatAttribute.group))));
+    }
+
+    @Test
+    void testDuplicates() {
+        var attributes = new PinAttributes(List.of("raw", "parsed", "raw_1", "group", "group"));
+
+        assertTrue(attributes.hasDuplicates(MessageFormatAttribute.raw));
+        assertTrue(attributes.hasDuplicates(MessageFormatAttribute.group));
+        assertFalse(attributes.hasDuplicates(MessageFormatAttribute.parsed));
+        assertEquals(List.of("raw", "raw_1"), attributes.withPrefix(MessageFormatAttribute.raw));
+    }
+
+    @Test
+    void testContains() {
+        var attributes = new PinAttributes(List.of("subscribe", "parsed_fix", "event", "custom"));
+
+        assertTrue(attributes.hasDirection(DirectionAttribute.subscribe));
+        assertFalse(attributes.hasDirection(DirectionAttribute.publish));
+        assertTrue(attributes.contains("subscribe"));
+        assertTrue(attributes.contains("parsed_fix"));
+        assertTrue(attributes.contains("event"));
+        assertTrue(attributes.contains("custom"));
+        assertFalse(attributes.contains("parsed"));
+        assertFalse(attributes.contains("publish"));
+        assertEquals(Set.of("parsed_fix", "custom"), attributes.getCustomAttributes());
+    }
+}
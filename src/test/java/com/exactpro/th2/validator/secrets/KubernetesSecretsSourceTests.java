@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.secrets;
+
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static com.exactpro.th2.validator.util.SecretsUtils.DEFAULT_SECRET_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnableKubernetesMockClient(crud = true)
+class KubernetesSecretsSourceTests {
+    private static final String NAMESPACE = "th2-schema";
+
+    private static final long EVENT_TIMEOUT_MILLIS = 5_000;
+
+    KubernetesClient client;
+
+    private KubernetesSecretsSource secretsSource;
+
+    @BeforeEach
+    void createSecretsSource() {
+        var namespace = new Namespace();
+        namespace.setMetadata(metadata(NAMESPACE, null));
+        client.namespaces().resource(namespace).create();
+
+        var secret = new Secret();
+        secret.setMetadata(metadata(DEFAULT_SECRET_NAME, NAMESPACE));
+        secret.setData(Map.of("user", "dXNlcg=="));
+        client.secrets().inNamespace(NAMESPACE).resource(secret).create();
+
+        secretsSource = new KubernetesSecretsSource(client);
+    }
+
+    @AfterEach
+    void closeSecretsSource() {
+        secretsSource.close();
+    }
+
+    private static ObjectMeta metadata(String name, String namespace) {
+        var metadata = new ObjectMeta();
+        metadata.setName(name);
+        metadata.setNamespace(namespace);
+        return metadata;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + EVENT_TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Event wasn't received in time");
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    void testInitialState() {
+        assertTrue(secretsSource.namespaceExists(NAMESPACE));
+        assertEquals(Set.of("user"), secretsSource.getCustomSecretKeys(NAMESPACE));
+
+        assertFalse(secretsSource.namespaceExists("unknown"));
+        assertNull(secretsSource.getCustomSecretKeys("unknown"));
+    }
+
+    @Test
+    void testSecretChangesAreReceived() throws InterruptedException {
+        assertEquals(Set.of("user"), secretsSource.getCustomSecretKeys(NAMESPACE));
+
+        client.secrets().inNamespace(NAMESPACE).withName(DEFAULT_SECRET_NAME).edit(secret -> {
+            Map<String, String> data = new HashMap<>(secret.getData());
+            data.put("password", "cGFzc3dvcmQ=");
+            secret.setData(data);
+            return secret;
+        });
+        await(() -> Set.of("user", "password").equals(secretsSource.getCustomSecretKeys(NAMESPACE)));
+
+        client.secrets().inNamespace(NAMESPACE).withName(DEFAULT_SECRET_NAME).delete();
+        await(() -> secretsSource.getCustomSecretKeys(NAMESPACE) == null);
+    }
+
+    @Test
+    void testIdleNamespacesAreEvicted() {
+        try (var source = new KubernetesSecretsSource(client, Duration.ZERO)) {
+            assertTrue(source.namespaceExists(NAMESPACE));
+            assertEquals(Set.of(NAMESPACE), source.informedNamespaces());
+
+            assertFalse(source.namespaceExists("unknown"));
+            assertEquals(Set.of("unknown"), source.informedNamespaces());
+
+            // evicted namespace is informed again on the next lookup
+            assertEquals(Set.of("user"), source.getCustomSecretKeys(NAMESPACE));
+            assertEquals(Set.of(NAMESPACE), source.informedNamespaces());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.secrets;
+
+import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.exactpro.th2.validator.SchemaValidationContext;
+import com.exactpro.th2.validator.boxes.BoxesValidator;
+import com.exactpro.th2.validator.errormessages.BoxResourceErrorMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OfflineSecretsSourceTests {
+    private static final String PATH = "src/test/resources/offlineTest/";
+
+    private static final ObjectMapper mapper = new YAMLMapper();
+
+    private SchemaValidationContext validateSecrets(String namespace) throws IOException {
+        var box = mapper.readValue(new File(PATH + "secrets-box.yml"), RepositoryResource.class);
+        var validationContext = new SchemaValidationContext();
+        new BoxesValidator(validationContext, Map.of("secrets-box", box))
+                .validateSecrets(namespace, OfflineSecretsSource.load(Path.of(PATH + "secrets.yml")));
+        return validationContext;
+    }
+
+    @Test
+    void testLoad() throws IOException {
+        var secretsSource = OfflineSecretsSource.load(Path.of(PATH + "secrets.yml"));
+
+        assertTrue(secretsSource.namespaceExists("th2-schema"));
+        assertEquals(Set.of("user", "password"), secretsSource.getCustomSecretKeys("th2-schema"));
+        assertTrue(secretsSource.namespaceExists("th2-no-secret"));
+        assertNull(secretsSource.getCustomSecretKeys("th2-no-secret"));
+        assertFalse(secretsSource.namespaceExists("unknown"));
+    }
+
+    @Test
+    void testMissingSecretKeys() throws IOException {
+        var validationContext = validateSecrets("th2-schema");
+
+        List<String> errors = validationContext.getReport().getBoxResourceErrorMessages().stream()
+                .map(BoxResourceErrorMessage::getMessage)
+                .collect(Collectors.toList());
+        assertEquals(List.of("Value \"token\" from \"secret-custom-config\" is not present in Kubernetes"), errors);
+        assertEquals(Set.of("secrets-box"), validationContext.getInvalidResources());
+    }
+
+    @Test
+    void testMissingSecret() throws IOException {
+        var validationContext = validateSecrets("th2-no-secret");
+
+        assertEquals(1, validationContext.getReport().getExceptionMessages().size());
+        assertTrue(validationContext.getReport().getBoxResourceErrorMessages().isEmpty());
+    }
+
+    @Test
+    void testMissingNamespace() throws IOException {
+        var validationContext = validateSecrets("unknown");
+
+        assertTrue(validationContext.isValid());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.util;
+
+import com.exactpro.th2.infrarepo.ResourceType;
+import com.exactpro.th2.infrarepo.repo.RepositoryResource;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceViewTests {
+    private static final ObjectMapper mapper = new YAMLMapper();
+
+    private static final File BOX_FILE = new File("src/test/resources/linksTest/act-fix.yml");
+
+    private static RepositoryResource resource() throws IOException {
+        return mapper.readValue(BOX_FILE, RepositoryResource.class);
+    }
+
+    @Test
+    void testViewMatchesCollectedResources() throws IOException {
+        var box = resource();
+        var sameNameCoreBox = resource();
+        var coreBox = resource();
+        var job = resource();
+        Map<String, Map<String, RepositoryResource>> repositoryMap = Map.of(
+                ResourceType.Th2Box.kind(), Map.of("box", box, "shared", box),
+                ResourceType.Th2CoreBox.kind(), Map.of("core", coreBox, "shared", sameNameCoreBox),
+                ResourceType.Th2Job.kind(), Map.of("job", job),
+                ResourceType.Th2Dictionary.kind(), Map.of("dictionary", resource())
+        );
+
+        ResourceView view = ResourceView.boxes(repositoryMap);
+        Map<String, RepositoryResource> collected = ResourceUtils.collectResources(
+                repositoryMap,
+                ResourceType.Th2Box.kind(),
+                ResourceType.Th2CoreBox.kind(),
+                ResourceType.Th2Job.kind(),
+                ResourceType.Th2Mstore.kind(),
+                ResourceType.Th2Estore.kind()
+        );
+
+        assertEquals(collected, view);
+        assertEquals(4, view.size());
+        assertEquals(4, view.values().size());
+        assertSame(sameNameCoreBox, view.get("shared"));
+        assertTrue(view.containsKey("job"));
+        assertNull(view.get("dictionary"));
+        assertThrows(UnsupportedOperationException.class, () -> view.put("other", box));
+    }
+
+    @Test
+    void testEmptyView() {
+        ResourceView view = ResourceView.boxes(Map.of(ResourceType.Th2Box.kind(), Map.of()));
+
+        assertTrue(view.isEmpty());
+        assertEquals(0, view.size());
+        assertFalse(view.entrySet().iterator().hasNext());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Exactpro (Exactpro Systems Limited)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.exactpro.th2.validator.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+import static com.exactpro.th2.validator.util.MapperUtils.MAPPER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SourceHashUtilTests {
+    private static final ObjectMapper mapper = new YAMLMapper();
+
+    @Test
+    void testDigest() {
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                SourceHashUtil.digest("abc"));
+    }
+
+    @Test
+    void testJsonDigestMatchesDigestOfJsonString() throws IOException {
+        Map<?, ?> spec = mapper.readValue(new File("src/test/resources/linksTest/act-fix.yml"), Map.class);
+
+        assertEquals(SourceHashUtil.digest(MAPPER.writeValueAsString(spec)), SourceHashUtil.digestJson(spec));
+        // digest is reused by the thread, results must not depend on previous calls
+        assertEquals(SourceHashUtil.digest(MAPPER.writeValueAsString(spec)), SourceHashUtil.digestJson(spec));
+    }
+}